@@ -0,0 +1,64 @@
+package com.github.coderodde.util.experimental;
+
+/**
+ * Defines how many fingers a {@link SquareFingerList} keeps for a given list
+ * size. More fingers shorten the traversals but cost more finger maintenance.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 13, 2020)
+ * @since 1.6
+ */
+@FunctionalInterface
+public interface FingerDensityFunction {
+    
+    /**
+     * Returns the desired number of fingers for a list of the given size. The
+     * list clamps the returned value to the range {@code [1, size]} for
+     * non-empty lists.
+     *
+     * @param size the size of the list.
+     * @return the desired number of fingers.
+     */
+    int getNumberOfFingers(int size);
+    
+    /**
+     * Returns the density function {@code c * sqrt(n)}.
+     *
+     * @param coefficient the coefficient {@code c}.
+     * @return the density function.
+     */
+    static FingerDensityFunction squareRoot(double coefficient) {
+        return size -> (int)(coefficient * Math.sqrt(size));
+    }
+    
+    /**
+     * Returns the density function {@code c * log2(n)}.
+     *
+     * @param coefficient the coefficient {@code c}.
+     * @return the density function.
+     */
+    static FingerDensityFunction logarithmic(double coefficient) {
+        return size -> (int)(coefficient * Math.log(size) / Math.log(2.0));
+    }
+    
+    /**
+     * Returns the density function that always asks for the same number of
+     * fingers.
+     *
+     * @param numberOfFingers the number of fingers.
+     * @return the density function.
+     */
+    static FingerDensityFunction constant(int numberOfFingers) {
+        return size -> numberOfFingers;
+    }
+    
+    /**
+     * Returns the density function {@code n^alpha}.
+     *
+     * @param alpha the exponent {@code alpha}.
+     * @return the density function.
+     */
+    static FingerDensityFunction power(double alpha) {
+        return size -> (int) Math.pow(size, alpha);
+    }
+}
@@ -1,16 +1,45 @@
 package com.github.coderodde.util.experimental;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
 /**
  * This class implements an experimental linked list data structure that 
- * combines linked list with array-based list.
+ * combines linked list with array-based list. The iterators walk the block 
+ * arrays directly, so that a full scan runs in {@code O(n)} time.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Aug 22, 2018)
  */
-public final class LinkedBlockList<T> {
+public final class LinkedBlockList<T> 
+        extends AbstractList<T> 
+        implements List<T>, Deque<T> {
 
     private static final int DEFAULT_BLOCK_CAPACITY = 64;
     private static final int MINIMUM_BLOCK_CAPACITY = 4;
+    private static final float DEFAULT_MINIMUM_FILL_RATIO = 0.25f;
+    private static final float MAXIMUM_MINIMUM_FILL_RATIO = 0.5f;
+
+    // The default fraction of the block capacity filled by the bulk 
+    // operations. The free slots let the subsequent insertions into the new
+    // blocks proceed without splitting them.
+    private static final float DEFAULT_BULK_FILL_RATIO = 0.875f;
+
+    // The maximum distance, in block capacities, from the cursor, the head or
+    // the tail that is walked over the block chain. Farther targets are 
+    // located via the block index.
+    private static final int MAXIMUM_WALK_DISTANCE = 2;
 
     /**
      * This static inner class implements the actual blocks storing the 
@@ -23,12 +52,12 @@ public final class LinkedBlockList<T> {
         /**
          * The length of {@code array}.
          */
-        final int capacity;
+        int capacity;
 
         /**
          * The mask used for modulo computation.
          */
-        final int indexMask;
+        int indexMask;
 
         /**
          * The number of elements in this block.
@@ -55,6 +84,31 @@ public final class LinkedBlockList<T> {
          */
         Block<T> nextBlock;
 
+        /**
+         * The parent of this block in the block index.
+         */
+        Block<T> parent;
+
+        /**
+         * The left child of this block in the block index.
+         */
+        Block<T> left;
+
+        /**
+         * The right child of this block in the block index.
+         */
+        Block<T> right;
+
+        /**
+         * The heap priority of this block in the block index.
+         */
+        int priority;
+
+        /**
+         * The total number of elements in the subtree rooted at this block.
+         */
+        int subtreeSize;
+
         Block(int capacity) {
             this.capacity = capacity;
             this.indexMask = capacity - 1;
@@ -65,287 +119,1843 @@ public final class LinkedBlockList<T> {
             return array[(headIndex + logicalIndex) & indexMask];
         }
 
+        void set(int logicalIndex, T element) {
+            array[(headIndex + logicalIndex) & indexMask] = element;
+        }
+
         void setNull(int logicalIndex) {
             array[(headIndex + logicalIndex) & indexMask] = null;
         }
-    }
 
-    /**
-     * The number of elements in this list.
-     */
-    private int size;
+        /**
+         * Moves the elements of this block to a new array of the given 
+         * capacity, starting from its beginning.
+         * 
+         * @param newCapacity the new capacity. Must be a power of two no less
+         *                    than the size of this block.
+         */
+        @SuppressWarnings("unchecked")
+        void resize(int newCapacity) {
+            T[] newArray = (T[]) new Object[newCapacity];
+            int firstRunLength = Math.min(size, capacity - headIndex);
 
-    /**
-     * The number of blocks contained by this list.
-     */
-    private int blocks;
+            System.arraycopy(array, headIndex, newArray, 0, firstRunLength);
+            System.arraycopy(array, 
+                             0, 
+                             newArray, 
+                             firstRunLength, 
+                             size - firstRunLength);
 
-    /**
-     * The first block in the chain.
-     */
-    private Block<T> headBlock;
+            array = newArray;
+            capacity = newCapacity;
+            indexMask = newCapacity - 1;
+            headIndex = 0;
+        }
 
-    /**
-     * The last block in the chain.
-     */
-    private Block<T> tailBlock;
+        /**
+         * Moves the elements at logical indices {@code fromIndex}, inclusive,
+         * through {@code toIndex}, exclusive, one position to the right. The
+         * slot right after the range must be free.
+         * 
+         * @param fromIndex the logical index of the first element to move.
+         * @param toIndex   the logical index one past the last element to 
+         *                  move.
+         */
+        void shiftRight(int fromIndex, int toIndex) {
+            int count = toIndex - fromIndex;
 
-    /**
-     * The block capacity.
-     */
-    private int blockCapacity;
-    /**
-     * The mask used for index computation.
-     */
-    private int indexMask;
+            if (count == 0) {
+                return;
+            }
 
-    public LinkedBlockList(int blockCapacity) {
-        blockCapacity = Math.max(blockCapacity, MINIMUM_BLOCK_CAPACITY);
-        blockCapacity = ceilToPowerOfTwo(blockCapacity);
-        this.blockCapacity = blockCapacity;
-        this.indexMask = blockCapacity - 1;
-    }
+            int start = (headIndex + fromIndex) & indexMask;
+            int end = start + count;
 
-    public LinkedBlockList() {
-        this(DEFAULT_BLOCK_CAPACITY);
-    }
+            if (end < capacity) {
+                System.arraycopy(array, start, array, start + 1, count);
+                return;
+            }
 
-    public void add(int index, T element) {
-        checkAddIndex(index);
+            // Move the wrapped part first, then carry the last slot over the
+            // array boundary, then move the rest:
+            System.arraycopy(array, 0, array, 1, end - capacity);
+            array[0] = array[capacity - 1];
+            System.arraycopy(array, 
+                             start, 
+                             array, 
+                             start + 1, 
+                             indexMask - start);
+        }
 
-        if (size == 0) {
-            headBlock = new Block<>(blockCapacity);
-            tailBlock = headBlock;
-            headBlock.array[0] = element;
-            headBlock.size = 1;
-            size = 1;
-            return;
+        /**
+         * Moves the elements at logical indices {@code fromIndex}, inclusive,
+         * through {@code toIndex}, exclusive, one position to the left. The
+         * slot right before the range must be free.
+         * 
+         * @param fromIndex the logical index of the first element to move.
+         * @param toIndex   the logical index one past the last element to 
+         *                  move.
+         */
+        void shiftLeft(int fromIndex, int toIndex) {
+            int count = toIndex - fromIndex;
+
+            if (count == 0) {
+                return;
+            }
+
+            int start = (headIndex + fromIndex) & indexMask;
+            int end = start + count;
+
+            if (start == 0) {
+                // The first element crosses the array boundary:
+                array[indexMask] = array[0];
+                System.arraycopy(array, 1, array, 0, count - 1);
+            } else if (end <= capacity) {
+                System.arraycopy(array, start, array, start - 1, count);
+            } else {
+                System.arraycopy(array, 
+                                 start, 
+                                 array, 
+                                 start - 1, 
+                                 capacity - start);
+                array[indexMask] = array[0];
+                System.arraycopy(array, 1, array, 0, end - capacity - 1);
+            }
         }
 
-        Block<T> block = headBlock;
+        /**
+         * Copies {@code count} elements starting from the logical index 
+         * {@code fromIndex} of this block to the logical index 
+         * {@code targetIndex} of the target block. Each contiguous run of 
+         * slots in both arrays is copied at once.
+         * 
+         * @param fromIndex   the logical index of the first element to copy.
+         * @param targetBlock the target block.
+         * @param targetIndex the logical target index.
+         * @param count       the number of elements to copy.
+         */
+        void copyTo(int fromIndex, 
+                    Block<T> targetBlock, 
+                    int targetIndex, 
+                    int count) {
+            int sourcePosition = (headIndex + fromIndex) & indexMask;
+            int targetPosition = 
+                    (targetBlock.headIndex + targetIndex) 
+                    & targetBlock.indexMask;
+
+            while (count > 0) {
+                int runLength = 
+                        Math.min(count, 
+                                 Math.min(capacity - sourcePosition, 
+                                          targetBlock.capacity - 
+                                          targetPosition));
 
-        while (index > block.size) {
-            index -= block.size;
-            block = block.nextBlock;
+                System.arraycopy(array, 
+                                 sourcePosition, 
+                                 targetBlock.array, 
+                                 targetPosition, 
+                                 runLength);
+
+                sourcePosition = (sourcePosition + runLength) & indexMask;
+                targetPosition = 
+                        (targetPosition + runLength) & targetBlock.indexMask;
+                count -= runLength;
+            }
         }
 
-        if (block.size == block.capacity) {
-            // Create a new block and move to it as little elements as possible:
-            int elementsOnLeft = index;
-            int elementsOnRight = block.size - index;
-            Block<T> newBlock = new Block<>(blockCapacity);
+        /**
+         * Sets {@code count} slots starting from the logical index 
+         * {@code fromIndex} to {@code null}.
+         * 
+         * @param fromIndex the logical index of the first slot to clear.
+         * @param count     the number of slots to clear.
+         */
+        void clear(int fromIndex, int count) {
+            int start = (headIndex + fromIndex) & indexMask;
+            int end = start + count;
 
-            if (elementsOnLeft < elementsOnRight) {
-                // Add newBlock before block and move to it the prefix of the
-                // current block and append the new element:
-                for (int newBlockIndex = 0; 
-                         newBlockIndex < elementsOnLeft; 
-                         newBlockIndex++) {
-                    newBlock.array[newBlockIndex] = block.get(newBlockIndex);
-                    block.setNull(newBlockIndex);
-                }
+            if (end <= capacity) {
+                Arrays.fill(array, start, end, null);
+            } else {
+                Arrays.fill(array, start, capacity, null);
+                Arrays.fill(array, 0, end - capacity, null);
+            }
+        }
+    }
 
-                newBlock.array[elementsOnLeft] = element;
-                newBlock.size = elementsOnLeft + 1;
-                newBlock.nextBlock = block;
-                newBlock.previousBlock = block.previousBlock;
-                block.previousBlock = newBlock;
-                block.size -= elementsOnLeft;
-                block.headIndex = 
-                        (block.headIndex + elementsOnLeft) & indexMask;
+    /**
+     * This static inner class indexes the blocks with a treap ordered by the
+     * list positions of the blocks. Each block is a treap node and stores the
+     * total number of elements in its subtree, so that the block containing a
+     * given index and the start index of a given block are both found in 
+     * {@code O(log B)} expected time, where {@code B} is the number of blocks.
+     * Inserting a block, removing a block and changing the size of a block 
+     * touch only the path from the block to the root, and also run in 
+     * {@code O(log B)} expected time.
+     * 
+     * @param <T> the element type.
+     */
+    private static final class BlockIndex<T> {
 
-                if (newBlock.previousBlock == null) {
-                    headBlock = newBlock;
-                } else {
-                    newBlock.previousBlock.nextBlock = newBlock;
-                }
+        private Block<T> root;
+
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Inserts the given block right after the given predecessor block.
+         * 
+         * @param predecessor the preceding block, or {@code null} if the new
+         *                    block becomes the first one.
+         * @param block       the block to insert.
+         */
+        void insertAfter(Block<T> predecessor, Block<T> block) {
+            block.left = null;
+            block.right = null;
+            block.subtreeSize = block.size;
+            block.priority = ThreadLocalRandom.current().nextInt();
+
+            if (root == null) {
+                block.parent = null;
+                root = block;
+            } else if (predecessor != null && predecessor.right == null) {
+                predecessor.right = block;
+                block.parent = predecessor;
             } else {
-                block.size -= elementsOnRight;
-                newBlock.array[0] = element;
-                int targetIndex = 1;
-                
-                for (int newBlockIndex = index; 
-                         newBlockIndex < elementsOnRight;
-                         newBlockIndex++) {
-                    newBlock.array[targetIndex] = block.get(newBlockIndex);
-                    block.setNull(newBlockIndex);
-                    targetIndex++;
+                // The new block becomes the leftmost node of the right subtree
+                // of the predecessor, or of the entire treap:
+                Block<T> node = predecessor == null ? root : predecessor.right;
+
+                while (node.left != null) {
+                    node = node.left;
                 }
 
-                newBlock.size = elementsOnRight + 1;
-                newBlock.previousBlock = block;
-                newBlock.nextBlock = block.nextBlock;
-                block.nextBlock = newBlock;
+                node.left = block;
+                block.parent = node;
+            }
 
-                if (newBlock.nextBlock == null) {
-                    tailBlock = newBlock;
+            for (Block<T> node = block.parent; 
+                    node != null; 
+                    node = node.parent) {
+                node.subtreeSize += block.size;
+            }
+
+            while (block.parent != null 
+                    && block.parent.priority < block.priority) {
+                rotateUp(block);
+            }
+
+            size++;
+        }
+
+        void removeBlock(Block<T> block) {
+            // Rotate the block down to a leaf:
+            while (block.left != null || block.right != null) {
+                Block<T> child;
+
+                if (block.left == null) {
+                    child = block.right;
+                } else if (block.right == null) {
+                    child = block.left;
                 } else {
-                    newBlock.nextBlock.previousBlock = newBlock;
+                    child = block.left.priority > block.right.priority ? 
+                            block.left : 
+                            block.right;
                 }
+
+                rotateUp(child);
             }
-        } else {
-            // The current block is not full so insert into it:
-            int elementsOnLeft = index;
-            int elementsOnRight = block.size - index;
 
-            if (elementsOnLeft < elementsOnRight) {
-                // Shift the leftmost elements one position to the left:
-                for (int elementIndex = 0; 
-                         elementIndex < elementsOnLeft; 
-                         elementIndex++) {
-                    int sourceIndex = 
-                            (block.headIndex + elementIndex) 
-                            & indexMask;
-
-                    int targetIndex = 
-                            (block.headIndex + elementIndex - 1) 
-                            & indexMask;
-
-                    block.array[targetIndex] = block.array[sourceIndex];
-                }
+            Block<T> parent = block.parent;
 
-                block.array[(block.headIndex + index - 1) & indexMask] =
-                        element;
-                block.headIndex = (block.headIndex - 1) & indexMask;
-                block.size++;
+            if (parent == null) {
+                root = null;
+            } else if (parent.left == block) {
+                parent.left = null;
             } else {
-                // Shift the rightmost elements one position to the right:
-                for (int elementIndex = 0;
-                         elementIndex < elementsOnRight; 
-                         elementIndex++) {
-                    int sourceIndex = 
-                            (block.headIndex + block.size - elementIndex - 1) 
-                            & indexMask;
-
-                    int targetIndex = 
-                            (block.headIndex + block.size - elementIndex) 
-                            & indexMask;
-
-                    block.array[targetIndex] = block.array[sourceIndex];
-                }
+                parent.right = null;
+            }
 
-                block.array[(block.headIndex + index) & indexMask] = element;
-                block.size++;
+            for (Block<T> node = parent; node != null; node = node.parent) {
+                node.subtreeSize -= block.size;
             }
+
+            block.parent = null;
+            size--;
         }
 
-        size++;
-    }
+        /**
+         * Adds {@code delta} to the size of the given block.
+         * 
+         * @param block the target block.
+         * @param delta the value to add to the block size.
+         */
+        void addToSize(Block<T> block, int delta) {
+            block.size += delta;
 
-    public T get(int index) {
-        checkAccessIndex(index);
-        Block<T> block = headBlock;
+            for (Block<T> node = block; node != null; node = node.parent) {
+                node.subtreeSize += delta;
+            }
+        }
+
+        /**
+         * Returns the list index of the first element in the given block.
+         * 
+         * @param block the target block.
+         * @return the total size of all the preceding blocks.
+         */
+        int getStartIndex(Block<T> block) {
+            int startIndex = getSubtreeSize(block.left);
 
-        while (index >= block.size) {
-            index -= block.size;
-            block = block.nextBlock;
+            for (Block<T> node = block; 
+                    node.parent != null; 
+                    node = node.parent) {
+                if (node.parent.right == node) {
+                    // Count the parent and its left subtree:
+                    startIndex += node.parent.subtreeSize - node.subtreeSize;
+                }
+            }
+
+            return startIndex;
         }
 
-        return block.get(index);
-    }
+        /**
+         * Returns the block containing the given list index by descending 
+         * the treap.
+         * 
+         * @param index the list index.
+         * @return the block containing the index.
+         */
+        Block<T> findBlock(int index) {
+            Block<T> node = root;
 
-    public void remove(int index) {
-        checkAccessIndex(index);
-        Block<T> targetBlock = headBlock;
+            while (true) {
+                int leftSubtreeSize = getSubtreeSize(node.left);
+
+                if (index < leftSubtreeSize) {
+                    node = node.left;
+                } else if (index < leftSubtreeSize + node.size) {
+                    return node;
+                } else {
+                    index -= leftSubtreeSize + node.size;
+                    node = node.right;
+                }
+            }
+        }
 
-        while (index >= targetBlock.size) {
-            index -= targetBlock.size;
-            targetBlock = targetBlock.nextBlock;
+        void clear() {
+            root = null;
+            size = 0;
         }
 
-        if (targetBlock.size == 1) {
-            // The target block contains only one element. Unlink it from the
-            // chain of blocks:
-            if (targetBlock == headBlock) {
-                headBlock = headBlock.nextBlock;
+        /**
+         * Checks that the in-order traversal of the treap visits the block
+         * chain starting from {@code headBlock}, and that the links, the 
+         * priorities and the subtree sizes are consistent.
+         * 
+         * @param headBlock the first block of the chain.
+         * @return {@code true} if the treap is consistent.
+         */
+        boolean hasCorrectState(Block<T> headBlock) {
+            if (root != null && root.parent != null) {
+                return false;
+            }
+
+            Block<T> block = headBlock;
+            Block<T> node = root;
+            int numberOfBlocks = 0;
+
+            while (node != null && node.left != null) {
+                node = node.left;
+            }
 
-                if (headBlock != null) {
-                    headBlock.previousBlock = null;                    
+            for (; node != null; node = getSuccessor(node)) {
+                if (node != block
+                        || (node.left != null 
+                            && (node.left.parent != node 
+                                || node.left.priority > node.priority))
+                        || (node.right != null 
+                            && (node.right.parent != node 
+                                || node.right.priority > node.priority))
+                        || node.subtreeSize != getSubtreeSize(node.left) 
+                                            + getSubtreeSize(node.right) 
+                                            + node.size) {
+                    return false;
                 }
-            } else {
-                targetBlock.previousBlock.nextBlock = targetBlock.nextBlock;
+
+                block = block.nextBlock;
+                numberOfBlocks++;
             }
 
-            if (targetBlock == tailBlock) {
-                tailBlock = tailBlock.previousBlock;
+            return block == null && numberOfBlocks == size;
+        }
+
+        /**
+         * Rotates the given node above its parent, keeping the in-order 
+         * sequence of the blocks.
+         * 
+         * @param node the node to rotate up.
+         */
+        private void rotateUp(Block<T> node) {
+            Block<T> parent = node.parent;
+            Block<T> grandParent = parent.parent;
+
+            if (parent.left == node) {
+                parent.left = node.right;
 
-                if (tailBlock != null) {
-                    tailBlock.nextBlock = null;
+                if (node.right != null) {
+                    node.right.parent = parent;
                 }
+
+                node.right = parent;
             } else {
-                targetBlock.nextBlock.previousBlock = targetBlock.previousBlock;
-            }
-        } else {
-            int elementsOnLeft = index;
-            int elementsOnRight = targetBlock.size - index - 1;
+                parent.right = node.left;
 
-            if (elementsOnLeft < elementsOnRight) {
-                // Shift the leftmost elements in the target block one position
-                // to the right:
-                for (int i = index - 1; i >= 0; i--) {
-                    int sourceIndex = (targetBlock.headIndex + i) & indexMask;
-                    int targetIndex = (targetBlock.headIndex + i + 1) 
-                            & indexMask;
-                    targetBlock.array[targetIndex] = 
-                            targetBlock.array[sourceIndex];
+                if (node.left != null) {
+                    node.left.parent = parent;
                 }
 
-                targetBlock.setNull(0);
-                targetBlock.headIndex = (targetBlock.headIndex + 1) & indexMask;
-                targetBlock.size--;
+                node.left = parent;
+            }
+
+            parent.parent = node;
+            node.parent = grandParent;
+
+            if (grandParent == null) {
+                root = node;
+            } else if (grandParent.left == parent) {
+                grandParent.left = node;
             } else {
-                // Shift the rightmost elements in the target block one position
-                // to the left:
-                for (int i = index + 1; i < targetBlock.size; i++) {
-                    int sourceIndex = (targetBlock.headIndex + i) & indexMask;
-                    int targetIndex = (targetBlock.headIndex + i - 1) 
-                            & indexMask;
-                    targetBlock.array[targetIndex] = 
-                            targetBlock.array[sourceIndex];
+                grandParent.right = node;
+            }
+
+            node.subtreeSize = parent.subtreeSize;
+            parent.subtreeSize = getSubtreeSize(parent.left) 
+                               + getSubtreeSize(parent.right) 
+                               + parent.size;
+        }
+
+        private static <T> Block<T> getSuccessor(Block<T> node) {
+            if (node.right != null) {
+                node = node.right;
+
+                while (node.left != null) {
+                    node = node.left;
                 }
 
-                targetBlock.size--;
-                targetBlock.setNull(targetBlock.size);
+                return node;
             }
+
+            while (node.parent != null && node.parent.right == node) {
+                node = node.parent;
+            }
+
+            return node.parent;
         }
 
-        size--;
+        private static <T> int getSubtreeSize(Block<T> node) {
+            return node == null ? 0 : node.subtreeSize;
+        }
     }
 
-    public int size() {
-        return size;
-    }
+    /**
+     * The number of elements in this list.
+     */
+    private int size;
 
     /**
-     * Returns a number between zero and one indicating how densely the blocks
-     * are.
-     * 
-     * @return density factor.
+     * The number of blocks contained by this list.
      */
-    public float getDensityFactor() {
-        return ((float) size) / blocks * blockCapacity;
-    }
+    private int blocks;
 
-    private void checkAccessIndex(int index) {
-        if (index < 0) {
-            throw new IndexOutOfBoundsException("index(" + index + ") < 0");
-        }
+    /**
+     * The first block in the chain.
+     */
+    private Block<T> headBlock;
 
-        if (index >= size) {
-            throw new IndexOutOfBoundsException(
-                    "index(" + index + ") >= (" + size + ")");
-        }
-    }
+    /**
+     * The last block in the chain.
+     */
+    private Block<T> tailBlock;
 
-    private void checkAddIndex(int index) {
-        if (index < 0) {
-            throw new IndexOutOfBoundsException("index(" + index + ") < 0");
-        }
+    /**
+     * The most recently accessed block.
+     */
+    private Block<T> cursorBlock;
 
-        if (index > size) {
-            throw new IndexOutOfBoundsException(
-                    "index(" + index + ") > (" + size + ")");
-        }
+    /**
+     * The list index of the first element in {@code cursorBlock}.
+     */
+    private int cursorStartIndex;
+
+    /**
+     * The index over the blocks.
+     */
+    private final BlockIndex<T> blockIndex = new BlockIndex<>();
+
+    /**
+     * The total capacity of all the blocks.
+     */
+    private long totalBlockCapacity;
+
+    /**
+     * The capacity of the new blocks. Fixed unless 
+     * {@code adaptiveBlockCapacity} is set.
+     */
+    private int blockCapacity;
+
+    /**
+     * The smallest capacity of the new blocks in the size-adaptive mode.
+     */
+    private final int minimumBlockCapacity;
+
+    /**
+     * The largest capacity of the new blocks in the size-adaptive mode.
+     */
+    private final int maximumBlockCapacity;
+
+    /**
+     * Whether the capacity of the new blocks follows the square root of the
+     * list size.
+     */
+    private final boolean adaptiveBlockCapacity;
+
+    /**
+     * The fraction of its capacity below which a block that has neighbours 
+     * is merged with or borrows from one of them.
+     */
+    private final float minimumFillRatio;
+
+    /**
+     * Constructs a new empty list with fixed block capacity.
+     * 
+     * @param blockCapacity    the capacity of the blocks. Rounded up to the 
+     *                         closest power of two no less than four.
+     * @param minimumFillRatio the fraction of the block capacity below which
+     *                         the blocks are merged with or borrow from their
+     *                         neighbours. Must be within {@code [0, 0.5]}.
+     */
+    public LinkedBlockList(int blockCapacity, float minimumFillRatio) {
+        this(blockCapacity, blockCapacity, minimumFillRatio, false);
+    }
+
+    /**
+     * Constructs a new empty list in the size-adaptive mode. Each block 
+     * created or resized while the list contains {@code n} elements gets the
+     * capacity of about {@code sqrt(n)} rounded up to a power of two, within 
+     * the given bounds. The existing blocks are not resized eagerly: a full 
+     * block grows instead of splitting when the current capacity is larger,
+     * and merged blocks get the current capacity, as long as the minimum fill
+     * ratio allows it.
+     * 
+     * @param minimumBlockCapacity the smallest block capacity. Rounded up to
+     *                             the closest power of two no less than four.
+     * @param maximumBlockCapacity the largest block capacity. Rounded up to 
+     *                             the closest power of two no less than four.
+     * @param minimumFillRatio     the fraction of the block capacity below 
+     *                             which the blocks are merged with or borrow
+     *                             from their neighbours. Must be within 
+     *                             {@code [0, 0.5]}.
+     */
+    public LinkedBlockList(int minimumBlockCapacity, 
+                           int maximumBlockCapacity, 
+                           float minimumFillRatio) {
+        this(minimumBlockCapacity, 
+             maximumBlockCapacity, 
+             minimumFillRatio, 
+             true);
+    }
+
+    private LinkedBlockList(int minimumBlockCapacity,
+                            int maximumBlockCapacity,
+                            float minimumFillRatio,
+                            boolean adaptiveBlockCapacity) {
+        if (!(minimumFillRatio >= 0.0f 
+                && minimumFillRatio <= MAXIMUM_MINIMUM_FILL_RATIO)) {
+            throw new IllegalArgumentException(
+                    "minimumFillRatio(" + minimumFillRatio + 
+                    ") is not within [0, " + MAXIMUM_MINIMUM_FILL_RATIO + 
+                    "]");
+        }
+
+        minimumBlockCapacity = 
+                ceilToPowerOfTwo(
+                        Math.max(minimumBlockCapacity, 
+                                 MINIMUM_BLOCK_CAPACITY));
+
+        maximumBlockCapacity = 
+                ceilToPowerOfTwo(
+                        Math.max(maximumBlockCapacity, 
+                                 MINIMUM_BLOCK_CAPACITY));
+
+        if (minimumBlockCapacity > maximumBlockCapacity) {
+            throw new IllegalArgumentException(
+                    "minimumBlockCapacity(" + minimumBlockCapacity + 
+                    ") > maximumBlockCapacity(" + maximumBlockCapacity + 
+                    ")");
+        }
+
+        this.minimumBlockCapacity = minimumBlockCapacity;
+        this.maximumBlockCapacity = maximumBlockCapacity;
+        this.blockCapacity = minimumBlockCapacity;
+        this.minimumFillRatio = minimumFillRatio;
+        this.adaptiveBlockCapacity = adaptiveBlockCapacity;
+    }
+
+    public LinkedBlockList(int blockCapacity) {
+        this(blockCapacity, DEFAULT_MINIMUM_FILL_RATIO);
+    }
+
+    public LinkedBlockList() {
+        this(DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * Constructs a new list holding the elements of the given collection in 
+     * the order of its iterator. The elements are copied to the blocks 
+     * directly, filling the blocks to the default bulk fill ratio.
+     * 
+     * @param c the source collection.
+     */
+    public LinkedBlockList(Collection<? extends T> c) {
+        this(c, DEFAULT_BULK_FILL_RATIO);
+    }
+
+    /**
+     * Constructs a new list holding the elements of the given collection in 
+     * the order of its iterator. The elements are copied to the blocks 
+     * directly.
+     * 
+     * @param c         the source collection.
+     * @param fillRatio the fraction of the block capacity to fill. Must be 
+     *                  within {@code (0, 1]}.
+     */
+    public LinkedBlockList(Collection<? extends T> c, float fillRatio) {
+        this();
+        addAll(size, c, fillRatio);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        return addAll(index, c, DEFAULT_BULK_FILL_RATIO);
+    }
+
+    /**
+     * Inserts the elements of the given collection starting from the given 
+     * index. The elements are copied to fresh blocks, each filled to about 
+     * {@code fillRatio} of its capacity, which are linked into the block 
+     * chain and the block index one after another, so that the block 
+     * containing {@code index} is located only once. If {@code index} falls
+     * inside a block, the elements after it are moved to the end of the new
+     * blocks. The fill ratio is raised if needed to keep the new blocks 
+     * above the minimum fill ratio.
+     * 
+     * @param index     the index of the first inserted element.
+     * @param c         the collection holding the elements to insert.
+     * @param fillRatio the fraction of the block capacity to fill. Must be 
+     *                  within {@code (0, 1]}.
+     * @return {@code true} if this list changed.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean addAll(int index, 
+                          Collection<? extends T> c, 
+                          float fillRatio) {
+        checkAddIndex(index);
+
+        if (!(fillRatio > 0.0f && fillRatio <= 1.0f)) {
+            throw new IllegalArgumentException(
+                    "fillRatio(" + fillRatio + ") is not within (0, 1]");
+        }
+
+        Object[] elements = c.toArray();
+
+        if (elements.length == 0) {
+            return false;
+        }
+
+        modCount++;
+
+        // The block after which the new blocks are linked, if any:
+        Block<T> previousBlock;
+        Block<T> splitBlock = null;
+        int splitOffset = 0;
+        int suffixLength = 0;
+
+        if (index == size) {
+            previousBlock = tailBlock;
+        } else {
+            locateBlock(index);
+            splitOffset = index - cursorStartIndex;
+
+            if (splitOffset == 0) {
+                previousBlock = cursorBlock.previousBlock;
+            } else {
+                splitBlock = previousBlock = cursorBlock;
+                suffixLength = splitBlock.size - splitOffset;
+            }
+        }
+
+        size += elements.length;
+
+        // Spread the new elements and the moved suffix evenly over the 
+        // smallest number of blocks holding at most targetBlockSize elements
+        // each. Unless there is only one new block, each of them ends up 
+        // more than half of targetBlockSize full, and so at least at the 
+        // minimum block size:
+        int capacity = updateBlockCapacity();
+        int targetBlockSize = 
+                Math.max((int)(fillRatio * capacity), 
+                         Math.min(capacity, 
+                                  2 * (int) Math.ceil(minimumFillRatio 
+                                                      * capacity)));
+
+        targetBlockSize = Math.max(targetBlockSize, 1);
+        int totalLength = elements.length + suffixLength;
+        int numberOfNewBlocks = (totalLength - 1) / targetBlockSize + 1;
+        Block<T>[] newBlocks = new Block[numberOfNewBlocks];
+        int sourceIndex = 0;
+
+        for (int i = 0; i < numberOfNewBlocks; i++) {
+            Block<T> block = new Block<>(capacity);
+            int blockSize = totalLength / numberOfNewBlocks 
+                          + (i < totalLength % numberOfNewBlocks ? 1 : 0);
+
+            int arrayLength = 
+                    Math.max(0, 
+                             Math.min(blockSize, 
+                                      elements.length - sourceIndex));
+
+            if (arrayLength > 0) {
+                System.arraycopy(elements, 
+                                 sourceIndex, 
+                                 block.array, 
+                                 0, 
+                                 arrayLength);
+            }
+
+            if (arrayLength < blockSize) {
+                splitBlock.copyTo(
+                        splitOffset + sourceIndex + arrayLength 
+                                    - elements.length, 
+                        block, 
+                        arrayLength, 
+                        blockSize - arrayLength);
+            }
+
+            block.size = blockSize;
+            sourceIndex += blockSize;
+            newBlocks[i] = block;
+
+            if (i > 0) {
+                block.previousBlock = newBlocks[i - 1];
+                newBlocks[i - 1].nextBlock = block;
+            }
+        }
+
+        if (splitBlock != null) {
+            splitBlock.clear(splitOffset, suffixLength);
+            blockIndex.addToSize(splitBlock, -suffixLength);
+        }
+
+        Block<T> firstNewBlock = newBlocks[0];
+        Block<T> lastNewBlock = newBlocks[numberOfNewBlocks - 1];
+        Block<T> nextBlock = 
+                previousBlock == null ? headBlock : previousBlock.nextBlock;
+
+        firstNewBlock.previousBlock = previousBlock;
+        lastNewBlock.nextBlock = nextBlock;
+
+        if (previousBlock == null) {
+            headBlock = firstNewBlock;
+        } else {
+            previousBlock.nextBlock = firstNewBlock;
+        }
+
+        if (nextBlock == null) {
+            tailBlock = lastNewBlock;
+        } else {
+            nextBlock.previousBlock = lastNewBlock;
+        }
+
+        blockIndex.insertAfter(previousBlock, firstNewBlock);
+
+        for (int i = 1; i < numberOfNewBlocks; i++) {
+            blockIndex.insertAfter(newBlocks[i - 1], newBlocks[i]);
+        }
+
+        blocks += numberOfNewBlocks;
+        totalBlockCapacity += (long) numberOfNewBlocks * capacity;
+        cursorBlock = firstNewBlock;
+        cursorStartIndex = blockIndex.getStartIndex(firstNewBlock);
+
+        // Only a lone new block, the split block and a neighbour that used 
+        // to be an end block may be underfull. Fixing one of them may merge
+        // away another:
+        if (numberOfNewBlocks == 1) {
+            fixUnderflow(firstNewBlock);
+        }
+
+        if (previousBlock != null && isLinked(previousBlock)) {
+            fixUnderflow(previousBlock);
+        }
+
+        if (nextBlock != null && isLinked(nextBlock)) {
+            fixUnderflow(nextBlock);
+        }
+
+        return true;
+    }
+
+    private boolean isLinked(Block<T> block) {
+        return block.previousBlock == null ? 
+               block == headBlock : 
+               block.previousBlock.nextBlock == block;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkAddIndex(index);
+        modCount++;
+
+        if (size == 0) {
+            headBlock = new Block<>(getCapacityFor(1));
+            tailBlock = headBlock;
+            headBlock.array[0] = element;
+            headBlock.size = 1;
+            blockIndex.insertAfter(null, headBlock);
+            blocks = 1;
+            totalBlockCapacity = headBlock.capacity;
+            cursorBlock = headBlock;
+            cursorStartIndex = 0;
+            size = 1;
+            return;
+        }
+
+        // Appending goes to the last block:
+        locateBlock(index == size ? index - 1 : index);
+        Block<T> block = cursorBlock;
+        index -= cursorStartIndex;
+
+        if (block.size == block.capacity && !tryGrowBlock(block)) {
+            // Create a new block and move to it as little elements as possible:
+            int elementsOnLeft = index;
+            int elementsOnRight = block.size - index;
+            Block<T> newBlock = 
+                    new Block<>(
+                            getCapacityFor(
+                                    Math.min(elementsOnLeft, 
+                                             elementsOnRight) + 1));
+
+            if (elementsOnLeft < elementsOnRight) {
+                // Add newBlock before block and move to it the prefix of the
+                // current block and append the new element:
+                block.copyTo(0, newBlock, 0, elementsOnLeft);
+                block.clear(0, elementsOnLeft);
+                newBlock.array[elementsOnLeft] = element;
+                newBlock.size = elementsOnLeft + 1;
+                newBlock.nextBlock = block;
+                newBlock.previousBlock = block.previousBlock;
+                block.previousBlock = newBlock;
+                blockIndex.addToSize(block, -elementsOnLeft);
+                block.headIndex = 
+                        (block.headIndex + elementsOnLeft) & block.indexMask;
+
+                if (newBlock.previousBlock == null) {
+                    headBlock = newBlock;
+                } else {
+                    newBlock.previousBlock.nextBlock = newBlock;
+                }
+
+                blockIndex.insertAfter(newBlock.previousBlock, newBlock);
+                blocks++;
+                totalBlockCapacity += newBlock.capacity;
+                // The new block starts where the current block started:
+                cursorBlock = newBlock;
+            } else {
+                // Add newBlock after block, put the new element to it and
+                // move to it the suffix of the current block:
+                newBlock.array[0] = element;
+                block.copyTo(index, newBlock, 1, elementsOnRight);
+                block.clear(index, elementsOnRight);
+
+                blockIndex.addToSize(block, -elementsOnRight);
+                newBlock.size = elementsOnRight + 1;
+                newBlock.previousBlock = block;
+                newBlock.nextBlock = block.nextBlock;
+                block.nextBlock = newBlock;
+
+                if (newBlock.nextBlock == null) {
+                    tailBlock = newBlock;
+                } else {
+                    newBlock.nextBlock.previousBlock = newBlock;
+                }
+
+                blockIndex.insertAfter(block, newBlock);
+                blocks++;
+                totalBlockCapacity += newBlock.capacity;
+            }
+
+            fixUnderflow(newBlock);
+        } else {
+            // The current block is not full so insert into it:
+            int elementsOnLeft = index;
+            int elementsOnRight = block.size - index;
+
+            if (elementsOnLeft < elementsOnRight) {
+                // Shift the leftmost elements one position to the left:
+                block.shiftLeft(0, elementsOnLeft);
+                block.array[(block.headIndex + index - 1) & block.indexMask] =
+                        element;
+                block.headIndex = (block.headIndex - 1) & block.indexMask;
+                blockIndex.addToSize(block, 1);
+            } else {
+                // Shift the rightmost elements one position to the right:
+                block.shiftRight(index, block.size);
+                block.array[(block.headIndex + index) & block.indexMask] = 
+                        element;
+                blockIndex.addToSize(block, 1);
+            }
+        }
+
+        size++;
+    }
+
+    @Override
+    public T get(int index) {
+        checkAccessIndex(index);
+        locateBlock(index);
+        return cursorBlock.get(index - cursorStartIndex);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkAccessIndex(index);
+        locateBlock(index);
+        index -= cursorStartIndex;
+        T oldElement = cursorBlock.get(index);
+        cursorBlock.set(index, element);
+        return oldElement;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkAccessIndex(index);
+        modCount++;
+        locateBlock(index);
+        Block<T> targetBlock = cursorBlock;
+        index -= cursorStartIndex;
+        T removedElement = targetBlock.get(index);
+
+        if (targetBlock.size == 1) {
+            // The target block contains only one element. Unlink it from the
+            // chain of blocks:
+            unlinkBlock(targetBlock);
+
+            if (targetBlock.nextBlock != null) {
+                // The next block starts where the removed block started:
+                cursorBlock = targetBlock.nextBlock;
+            } else if (targetBlock.previousBlock != null) {
+                cursorBlock = targetBlock.previousBlock;
+                cursorStartIndex -= cursorBlock.size;
+            } else {
+                cursorBlock = null;
+            }
+        } else {
+            int elementsOnLeft = index;
+            int elementsOnRight = targetBlock.size - index - 1;
+
+            if (elementsOnLeft < elementsOnRight) {
+                // Shift the leftmost elements in the target block one position
+                // to the right:
+                targetBlock.shiftRight(0, index);
+                targetBlock.setNull(0);
+                targetBlock.headIndex = 
+                        (targetBlock.headIndex + 1) & targetBlock.indexMask;
+                blockIndex.addToSize(targetBlock, -1);
+            } else {
+                // Shift the rightmost elements in the target block one position
+                // to the left:
+                targetBlock.shiftLeft(index + 1, targetBlock.size);
+
+                blockIndex.addToSize(targetBlock, -1);
+                targetBlock.setNull(targetBlock.size);
+            }
+
+            fixUnderflow(targetBlock);
+        }
+
+        size--;
+        return removedElement;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        // Unlink the blocks so that the GC can collect them even if a stale
+        // iterator still refers to one of them:
+        for (Block<T> block = headBlock; block != null; ) {
+            Block<T> nextBlock = block.nextBlock;
+            block.previousBlock = null;
+            block.nextBlock = null;
+            block = nextBlock;
+        }
+
+        blockIndex.clear();
+        headBlock = null;
+        tailBlock = null;
+        cursorBlock = null;
+        cursorStartIndex = 0;
+        blocks = 0;
+        totalBlockCapacity = 0L;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BlockIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new BlockIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkAddIndex(index);
+        return new BlockIterator(index);
+    }
+
+    @Override
+    public void addFirst(T e) {
+        add(0, e);
+    }
+
+    @Override
+    public void addLast(T e) {
+        add(size, e);
+    }
+
+    @Override
+    public boolean offerFirst(T e) {
+        add(0, e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T e) {
+        add(size, e);
+        return true;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("removeFirst() on empty list.");
+        }
+
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("removeLast() on empty list.");
+        }
+
+        return remove(size - 1);
+    }
+
+    @Override
+    public T pollFirst() {
+        return size == 0 ? null : remove(0);
+    }
+
+    @Override
+    public T pollLast() {
+        return size == 0 ? null : remove(size - 1);
+    }
+
+    @Override
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("getFirst() on empty list.");
+        }
+
+        return headBlock.get(0);
+    }
+
+    @Override
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("getLast() on empty list.");
+        }
+
+        return tailBlock.get(tailBlock.size - 1);
+    }
+
+    @Override
+    public T peekFirst() {
+        return size == 0 ? null : headBlock.get(0);
+    }
+
+    @Override
+    public T peekLast() {
+        return size == 0 ? null : tailBlock.get(tailBlock.size - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        ListIterator<T> iterator = listIterator(size);
+
+        while (iterator.hasPrevious()) {
+            T element = iterator.previous();
+
+            if (o == null ? element == null : o.equals(element)) {
+                iterator.remove();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean offer(T e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(T e) {
+        addFirst(e);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Returns a spliterator that splits this list at the block boundaries 
+     * closest to the middle of its range, located via the block index, and 
+     * traverses each block with a loop over its array. The list must not be 
+     * modified while the spliterator is in use.
+     * 
+     * @return a spliterator over this list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BlockSpliterator<>(this, headBlock, 0, 0, size);
+    }
+
+    /**
+     * Returns a fail-fast iterator walking this list from the tail to the 
+     * head over the block arrays. The iterator supports removal.
+     * 
+     * @return a descending iterator.
+     */
+    @Override
+    public Iterator<T> descendingIterator() {
+        ListIterator<T> listIterator = listIterator(size);
+
+        return new Iterator<T>() {
+
+            @Override
+            public boolean hasNext() {
+                return listIterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return listIterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                listIterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of blocks in this list.
+     * 
+     * @return the number of blocks.
+     */
+    public int getNumberOfBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Returns a number between zero and one indicating how densely the blocks
+     * are filled, that is, the number of elements divided by the total 
+     * capacity of the blocks. An empty list has no blocks and no wasted 
+     * capacity, and has the density factor of one.
+     * 
+     * @return density factor.
+     */
+    public float getDensityFactor() {
+        if (blocks == 0) {
+            return 1.0f;
+        }
+
+        return (float)((double) size / totalBlockCapacity);
+    }
+
+    /**
+     * Recomputes the capacity of the new blocks from the current size in the
+     * size-adaptive mode.
+     * 
+     * @return the capacity of the new blocks.
+     */
+    private int updateBlockCapacity() {
+        if (adaptiveBlockCapacity) {
+            blockCapacity = 
+                    Math.min(maximumBlockCapacity, 
+                             Math.max(minimumBlockCapacity, 
+                                      ceilToPowerOfTwo(
+                                              (int) Math.sqrt(size))));
+        }
+
+        return blockCapacity;
+    }
+
+    /**
+     * Returns the capacity for a new or a resized block holding the given 
+     * number of elements. In the size-adaptive mode, this is the current 
+     * block capacity, lowered if needed to keep the block at least 
+     * {@code minimumFillRatio} full, and raised if needed to fit the 
+     * elements.
+     * 
+     * @param numberOfElements the number of elements in the block.
+     * @return the block capacity.
+     */
+    private int getCapacityFor(int numberOfElements) {
+        if (!adaptiveBlockCapacity) {
+            return blockCapacity;
+        }
+
+        int capacity = Math.min(updateBlockCapacity(), 
+                                getMaximumCapacityFor(numberOfElements));
+
+        capacity = Math.max(capacity, ceilToPowerOfTwo(numberOfElements));
+        capacity = Math.max(capacity, minimumBlockCapacity);
+        return Math.min(capacity, maximumBlockCapacity);
+    }
+
+    /**
+     * Returns the largest power of two capacity that the given number of 
+     * elements fill at least to the minimum fill ratio.
+     * 
+     * @param numberOfElements the number of elements in the block.
+     * @return the largest allowed capacity.
+     */
+    private int getMaximumCapacityFor(int numberOfElements) {
+        long capacityLimit = 
+                (long)(numberOfElements / (double) minimumFillRatio);
+
+        if (capacityLimit >= maximumBlockCapacity) {
+            // Also covers the zero fill ratio:
+            return maximumBlockCapacity;
+        }
+
+        return (int) Long.highestOneBit(Math.max(1L, capacityLimit));
+    }
+
+    /**
+     * Grows the given full block to the current block capacity in the 
+     * size-adaptive mode, if that capacity is larger and the block would 
+     * still be filled at least to the minimum fill ratio after the next
+     * insertion.
+     * 
+     * @param block the full block.
+     * @return {@code true} if the block was resized.
+     */
+    private boolean tryGrowBlock(Block<T> block) {
+        if (!adaptiveBlockCapacity) {
+            return false;
+        }
+
+        int newCapacity = Math.min(updateBlockCapacity(), 
+                                   getMaximumCapacityFor(block.size + 1));
+
+        if (newCapacity <= block.capacity) {
+            return false;
+        }
+
+        resizeBlock(block, newCapacity);
+        return true;
+    }
+
+    private void resizeBlock(Block<T> block, int newCapacity) {
+        totalBlockCapacity += newCapacity - block.capacity;
+        block.resize(newCapacity);
+    }
+
+    private int getMinimumBlockSize(Block<T> block) {
+        return (int) Math.ceil(minimumFillRatio * block.capacity);
+    }
+
+    /**
+     * Restores the minimum block size of the given block, if it has fallen
+     * below it. The block is merged with its smaller neighbour if they fit in
+     * one block together, which then gets the capacity returned by 
+     * {@link #getCapacityFor(int)}. Otherwise, the elements of the two blocks
+     * are split between them in proportion to their capacities, and since 
+     * their total size is then larger than either capacity, both end up at
+     * least half full.
+     * <p>
+     * The head and the tail blocks are exempt from the minimum block size. 
+     * Otherwise, the new block created by splitting the full tail block on 
+     * append would immediately take half of the elements of that block, and
+     * a list built by appending would end up only half full.
+     * 
+     * @param block the block to check.
+     */
+    private void fixUnderflow(Block<T> block) {
+        if (block.size >= getMinimumBlockSize(block)) {
+            return;
+        }
+
+        Block<T> previousBlock = block.previousBlock;
+        Block<T> nextBlock = block.nextBlock;
+
+        if (previousBlock == null || nextBlock == null) {
+            return;
+        }
+
+        Block<T> leftBlock;
+        Block<T> rightBlock;
+
+        if (nextBlock.size < previousBlock.size) {
+            leftBlock = block;
+            rightBlock = nextBlock;
+        } else {
+            leftBlock = previousBlock;
+            rightBlock = block;
+        }
+
+        int totalSize = leftBlock.size + rightBlock.size;
+        int mergedCapacity = getCapacityFor(totalSize);
+
+        if (totalSize <= mergedCapacity) {
+            if (leftBlock.capacity != mergedCapacity) {
+                resizeBlock(leftBlock, mergedCapacity);
+            }
+
+            moveToPreviousBlock(rightBlock, rightBlock.size);
+            unlinkBlock(rightBlock);
+        } else {
+            int leftBlockTargetSize = 
+                    (int)((long) totalSize * leftBlock.capacity / 
+                          (leftBlock.capacity + rightBlock.capacity));
+
+            if (leftBlock.size < leftBlockTargetSize) {
+                moveToPreviousBlock(rightBlock, 
+                                    leftBlockTargetSize - leftBlock.size);
+            } else {
+                moveToNextBlock(leftBlock, 
+                                leftBlock.size - leftBlockTargetSize);
+            }
+        }
+
+        cursorBlock = leftBlock;
+        cursorStartIndex = blockIndex.getStartIndex(leftBlock);
+    }
+
+    /**
+     * Moves the first {@code count} elements of the given block to the end 
+     * of its previous block.
+     * 
+     * @param block the source block.
+     * @param count the number of elements to move.
+     */
+    private void moveToPreviousBlock(Block<T> block, int count) {
+        Block<T> previousBlock = block.previousBlock;
+        block.copyTo(0, previousBlock, previousBlock.size, count);
+        block.clear(0, count);
+        block.headIndex = (block.headIndex + count) & block.indexMask;
+        blockIndex.addToSize(previousBlock, count);
+        blockIndex.addToSize(block, -count);
+    }
+
+    /**
+     * Moves the last {@code count} elements of the given block to the 
+     * beginning of its next block.
+     * 
+     * @param block the source block.
+     * @param count the number of elements to move.
+     */
+    private void moveToNextBlock(Block<T> block, int count) {
+        Block<T> nextBlock = block.nextBlock;
+        int sourceIndex = block.size - count;
+        nextBlock.headIndex = 
+                (nextBlock.headIndex - count) & nextBlock.indexMask;
+        block.copyTo(sourceIndex, nextBlock, 0, count);
+        block.clear(sourceIndex, count);
+
+        blockIndex.addToSize(nextBlock, count);
+        blockIndex.addToSize(block, -count);
+    }
+
+    private void unlinkBlock(Block<T> block) {
+        if (block.previousBlock == null) {
+            headBlock = block.nextBlock;
+        } else {
+            block.previousBlock.nextBlock = block.nextBlock;
+        }
+
+        if (block.nextBlock == null) {
+            tailBlock = block.previousBlock;
+        } else {
+            block.nextBlock.previousBlock = block.previousBlock;
+        }
+
+        blockIndex.removeBlock(block);
+        blocks--;
+        totalBlockCapacity -= block.capacity;
+    }
+
+    /**
+     * Points the cursor to the block containing the given index. If the 
+     * cursor block, the head block or the tail block is close enough to the 
+     * target block, the block chain is walked from the closest one of them.
+     * Otherwise, the target block is located via the block index.
+     * 
+     * @param index the target list index.
+     */
+    private void locateBlock(int index) {
+        int cursorDistance = Integer.MAX_VALUE;
+
+        if (cursorBlock != null) {
+            if (index < cursorStartIndex) {
+                cursorDistance = cursorStartIndex - index;
+            } else if (index >= cursorStartIndex + cursorBlock.size) {
+                cursorDistance = index - cursorStartIndex - cursorBlock.size;
+            } else {
+                return;
+            }
+        }
+
+        int headDistance = index;
+        int tailDistance = size - 1 - index;
+        int minimumDistance = 
+                Math.min(cursorDistance, Math.min(headDistance, tailDistance));
+
+        if (minimumDistance > MAXIMUM_WALK_DISTANCE * blockCapacity) {
+            cursorBlock = blockIndex.findBlock(index);
+            cursorStartIndex = blockIndex.getStartIndex(cursorBlock);
+            return;
+        }
+
+        if (minimumDistance == headDistance) {
+            cursorBlock = headBlock;
+            cursorStartIndex = 0;
+        } else if (minimumDistance == tailDistance) {
+            cursorBlock = tailBlock;
+            cursorStartIndex = size - tailBlock.size;
+        }
+
+        while (index < cursorStartIndex) {
+            cursorBlock = cursorBlock.previousBlock;
+            cursorStartIndex -= cursorBlock.size;
+        }
+
+        while (index >= cursorStartIndex + cursorBlock.size) {
+            cursorStartIndex += cursorBlock.size;
+            cursorBlock = cursorBlock.nextBlock;
+        }
+    }
+
+    /**
+     * This inner class implements the list iterators. An iterator keeps the
+     * block and the offset within it of the next element, so that stepping 
+     * over the list reads the block arrays directly. After a modification 
+     * through the iterator, the position is recomputed via the list cursor, 
+     * which is left next to the modified index and is found in constant 
+     * time.
+     */
+    private final class BlockIterator implements ListIterator<T> {
+
+        // The block containing the next element, or the tail block when at 
+        // the end of the list.
+        private Block<T> block;
+
+        // The logical index of the next element within block.
+        private int offset;
+
+        private int nextIndex;
+
+        private Block<T> lastReturnedBlock;
+        private int lastReturnedOffset;
+        private int lastReturnedIndex = -1;
+        private int expectedModCount = modCount;
+
+        BlockIterator(int index) {
+            nextIndex = index;
+            seek();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (offset == block.size) {
+                block = block.nextBlock;
+                offset = 0;
+            }
+
+            lastReturnedBlock = block;
+            lastReturnedOffset = offset;
+            lastReturnedIndex = nextIndex++;
+            return block.get(offset++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            if (offset == 0) {
+                block = block.previousBlock;
+                offset = block.size;
+            }
+
+            lastReturnedBlock = block;
+            lastReturnedOffset = --offset;
+            lastReturnedIndex = --nextIndex;
+            return block.get(offset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+
+            if (lastReturnedIndex == -1) {
+                throw new IllegalStateException();
+            }
+
+            LinkedBlockList.this.remove(lastReturnedIndex);
+
+            if (lastReturnedIndex < nextIndex) {
+                // The last call was next():
+                nextIndex--;
+            }
+
+            lastReturnedIndex = -1;
+            lastReturnedBlock = null;
+            expectedModCount = modCount;
+            seek();
+        }
+
+        @Override
+        public void set(T e) {
+            checkForComodification();
+
+            if (lastReturnedIndex == -1) {
+                throw new IllegalStateException();
+            }
+
+            lastReturnedBlock.set(lastReturnedOffset, e);
+        }
+
+        @Override
+        public void add(T e) {
+            checkForComodification();
+            LinkedBlockList.this.add(nextIndex++, e);
+            lastReturnedIndex = -1;
+            lastReturnedBlock = null;
+            expectedModCount = modCount;
+            seek();
+        }
+
+        private void seek() {
+            if (nextIndex == size) {
+                block = tailBlock;
+                offset = block == null ? 0 : block.size;
+            } else {
+                locateBlock(nextIndex);
+                block = cursorBlock;
+                offset = nextIndex - cursorStartIndex;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * This static inner class implements the spliterators. Each spliterator
+     * covers the index range {@code [index, fence)} and starts from the 
+     * element at {@code offset} in {@code block}. Splitting at a block 
+     * boundary gives the part before the boundary to the prefix.
+     * 
+     * @param <T> the element type.
+     */
+    private static final class BlockSpliterator<T> 
+            implements Spliterator<T> {
+
+        private final LinkedBlockList<T> list;
+        private final int fence;
+        private final int expectedModCount;
+        private Block<T> block;
+        private int offset;
+        private int index;
+
+        BlockSpliterator(LinkedBlockList<T> list,
+                         Block<T> block,
+                         int offset,
+                         int index,
+                         int fence) {
+            this.list = list;
+            this.block = block;
+            this.offset = offset;
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = list.modCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "The action is null.");
+
+            if (index >= fence) {
+                return false;
+            }
+
+            checkForComodification();
+
+            if (offset == block.size) {
+                block = block.nextBlock;
+                offset = 0;
+            }
+
+            T element = block.get(offset++);
+            index++;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            checkForComodification();
+
+            while (index < fence) {
+                if (offset == block.size) {
+                    block = block.nextBlock;
+                    offset = 0;
+                }
+
+                int count = Math.min(block.size - offset, fence - index);
+                T[] array = block.array;
+                int start = (block.headIndex + offset) & block.indexMask;
+                int firstRunEnd = Math.min(start + count, block.capacity);
+
+                for (int i = start; i < firstRunEnd; i++) {
+                    action.accept(array[i]);
+                }
+
+                // The rest of the range wraps around to the array beginning:
+                for (int i = 0, end = count - (firstRunEnd - start); 
+                        i < end; 
+                        i++) {
+                    action.accept(array[i]);
+                }
+
+                offset += count;
+                index += count;
+            }
+
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (fence - index < 2) {
+                return null;
+            }
+
+            BlockIndex<T> blockIndex = list.blockIndex;
+            Block<T> splitBlock = blockIndex.findBlock((index + fence) >>> 1);
+            int splitIndex = blockIndex.getStartIndex(splitBlock);
+
+            if (splitIndex <= index) {
+                // The middle lies in the first block of the range, so split
+                // after it:
+                splitIndex += splitBlock.size;
+                splitBlock = splitBlock.nextBlock;
+
+                if (splitBlock == null) {
+                    return null;
+                }
+            }
+
+            if (splitIndex >= fence) {
+                return null;
+            }
+
+            BlockSpliterator<T> prefix = 
+                    new BlockSpliterator<>(list, 
+                                           block, 
+                                           offset, 
+                                           index, 
+                                           splitIndex);
+
+            block = splitBlock;
+            offset = 0;
+            index = splitIndex;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED |
+                   Spliterator.SIZED |
+                   Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (list.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("index(" + index + ") < 0");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "index(" + index + ") >= (" + size + ")");
+        }
+    }
+
+    private void checkAddIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("index(" + index + ") < 0");
+        }
+
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "index(" + index + ") > (" + size + ")");
+        }
+    }
+
+    boolean hasCorrectState() {
+        int numberOfBlocks = 0;
+        int startIndex = 0;
+        Block<T> previousBlock = null;
+
+        if (!blockIndex.hasCorrectState(headBlock)) {
+            return false;
+        }
+
+        for (Block<T> block = headBlock; 
+                block != null; 
+                previousBlock = block, 
+                block = block.nextBlock, 
+                numberOfBlocks++) {
+            if (block.previousBlock != previousBlock
+                    || block.size == 0
+                    || block.size > block.capacity
+                    || (block != headBlock 
+                        && block != tailBlock 
+                        && block.size < getMinimumBlockSize(block))
+                    || blockIndex.getStartIndex(block) != startIndex) {
+                return false;
+            }
+
+            startIndex += block.size;
+        }
+
+        if (cursorBlock != null 
+                && (!isLinked(cursorBlock) 
+                    || blockIndex.getStartIndex(cursorBlock) 
+                    != cursorStartIndex)) {
+            return false;
+        }
+
+        return previousBlock == tailBlock 
+                && numberOfBlocks == blockIndex.size() 
+                && numberOfBlocks == blocks
+                && startIndex == size
+                && (cursorBlock != null || size == 0);
     }
 
     private static int ceilToPowerOfTwo(int number) {
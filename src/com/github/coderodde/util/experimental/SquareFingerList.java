@@ -1,13 +1,35 @@
 package com.github.coderodde.util.experimental;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 
 /**
  * This class implements an experimental linked list data structure that
  * maintains a small set of so called fingers that are just references to the
  * linked list nodes.
- * 
+ * <p>
+ * Each finger owns the segment of nodes starting from its node and ending
+ * right before the node of the next finger, and stores only the length of that
+ * segment. The first finger always points to the head node. The prefix sums of
+ * the segment lengths are kept in a Fenwick tree, so that locating the segment
+ * of an index and updating the lengths after an insertion or a removal both run
+ * in {@code O(log sqrt(n))} time.
+ * <p>
+ * By default, the list keeps {@code sqrt(size)} fingers and every access moves
+ * the closest finger to the accessed node. In the <i>evenly spaced</i> mode,
+ * the fingers are kept at roughly multiples of the stride
+ * {@code s = size / sqrt(size)}: each segment is split when it grows longer
+ * than {@code 2s} and merged with its neighbour when it shrinks below
+ * {@code s / 2}, so that no access traverses more than {@code s} nodes. The
+ * number of fingers may be customized by passing a
+ * {@link FingerDensityFunction}.
+ *
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 13, 2020)
  */
@@ -16,7 +38,7 @@ public final class SquareFingerList<T> {
     
     /**
      * This static inner class defines a node in the linked list.
-     * 
+     *
      * @param <T> the element type.
      */
     private static final class SquareFingerListNode<T> {
@@ -38,161 +60,365 @@ public final class SquareFingerList<T> {
     
     /**
      * This static inner class defines a finger to a node.
-     * 
+     *
      * @param <T> the element type.
      */
     private static final class Finger<T> {
         
         private SquareFingerListNode<T> node;
-        private int index;
+        private int length;
         
-        Finger(SquareFingerListNode<T> node) {
+        Finger(SquareFingerListNode<T> node, int length) {
             this.node = node;
+            this.length = length;
         }
         
         // Used for debugging.
         @Override
         public String toString() {
-            return "[" + index + ", " + Objects.toString(node.element) + "]";
+            return "[" + length + ", " + Objects.toString(node.element) + "]";
         }
     }
     
     private SquareFingerListNode<T> headNode;
     private SquareFingerListNode<T> tailNode;
-    private final FingerDeque<T> fingerDeque = new FingerDeque<>();
-    private int shortestFingerDistance;
+    private final FingerArray<T> fingerArray = new FingerArray<>();
+    private final boolean evenlySpacedFingers;
+    private final FingerDensityFunction fingerDensityFunction;
     private int size;
+    private int modificationCount;
+    
+    /**
+     * Constructs a new empty list.
+     *
+     * @param evenlySpacedFingers   if {@code true}, the fingers are kept evenly
+     *                              spaced instead of following the accesses.
+     * @param fingerDensityFunction the function mapping the list size to the
+     *                              number of fingers.
+     */
+    public SquareFingerList(boolean evenlySpacedFingers,
+                            FingerDensityFunction fingerDensityFunction) {
+        this.evenlySpacedFingers = evenlySpacedFingers;
+        this.fingerDensityFunction =
+                Objects.requireNonNull(
+                        fingerDensityFunction,
+                        "The finger density function is null.");
+    }
+    
+    public SquareFingerList(boolean evenlySpacedFingers) {
+        this(evenlySpacedFingers, FingerDensityFunction.squareRoot(1.0));
+    }
+    
+    public SquareFingerList() {
+        this(false);
+    }
+    
+    /**
+     * Constructs a new list holding the elements of the input collection in
+     * the iteration order of the collection.
+     *
+     * @param collection the collection of initial elements.
+     */
+    public SquareFingerList(Collection<? extends T> collection) {
+        this();
+        addAll(collection);
+    }
+    
+    /**
+     * Appends all the elements of the input collection to the end of this
+     * list. The new nodes are linked in a single pass that also drops evenly
+     * spaced fingers over them, so that no per-element finger maintenance takes
+     * place.
+     *
+     * @param collection the collection of elements to append.
+     * @return {@code true} if this list changed.
+     */
+    public boolean addAll(Collection<? extends T> collection) {
+        if (collection.isEmpty()) {
+            return false;
+        }
+        
+        int stride = getFingerStride(size + collection.size());
+        Finger<T> lastFinger = size == 0 ?
+                null :
+                fingerArray.get(fingerArray.size() - 1);
+        
+        for (T element : collection) {
+            SquareFingerListNode<T> node = new SquareFingerListNode<>(element);
+            
+            if (size == 0) {
+                headNode = tailNode = node;
+            } else {
+                appendToList(node);
+            }
+            
+            if (lastFinger == null || lastFinger.length >= stride) {
+                lastFinger = new Finger<>(node, 0);
+                fingerArray.appendFinger(lastFinger);
+            }
+            
+            lastFinger.length++;
+            size++;
+        }
+        
+        fingerArray.rebuildTree();
+        modificationCount++;
+        
+        if (!evenlySpacedFingers) {
+            fixNumberOfFingers();
+        }
+        
+        return true;
+    }
     
     public void add(int index, T element) {
         checkAddIndex(index);
+        SquareFingerListNode<T> newNode = new SquareFingerListNode<>(element);
+        int segment;
         
         if (size == 0) {
-            // Empty list. Just add the node and set all the fingers point to
+            // Empty list. Just add the node and the first finger pointing to
             // it:
-            addToEmptyList(element);
+            headNode = tailNode = newNode;
+            fingerArray.insertFinger(0, new Finger<>(newNode, 1));
+            size = 1;
+            modificationCount++;
+            return;
         } else if (size == index) {
-            // Non-empty list. Append the new node as the last one:
-            appendToList(element);
-        } else if (index == 0) {
-            // Non-empty list. Prepend the new node as the first one::
-            prependToList(element);
+            // Non-empty list. Append the new node to the last segment:
+            appendToList(newNode);
+            segment = fingerArray.size() - 1;
         } else {
-            // Non-empty list. Insert between two adjacent nodes:
-            insertToList(index, element);
+            // Non-empty list. Insert in front of the node at index 'index':
+            segment = fingerArray.findSegment(index);
+            int offset = index - fingerArray.getStartIndex(segment);
+            insertToList(newNode, getNode(segment, offset));
+            
+            if (offset == 0) {
+                if (segment == 0) {
+                    // The new node is the new head node:
+                    fingerArray.get(0).node = newNode;
+                } else {
+                    // The new node ends the previous segment:
+                    segment--;
+                }
+            }
         }
         
+        fingerArray.addToLength(segment, 1);
         size++;
-        fixNumberOfFingersAfterAddition();
+        modificationCount++;
+        
+        if (evenlySpacedFingers) {
+            fixSegmentLength(segment);
+        } else {
+            fixNumberOfFingers();
+        }
     }
     
-    private void fixNumberOfFingersAfterAddition() {
+    private void fixNumberOfFingers() {
         int optimalNumberOfFingers = getFingersArrayOptimalLength(size);
-        SquareFingerListNode<T> lastNode = tailNode;
         
-        while (fingerDeque.size() < optimalNumberOfFingers) {
-            Finger<T> finger = new Finger<>(lastNode);
-            finger.index = size - 1;
-            fingerDeque.addFinger(finger);
+        while (fingerArray.size() < optimalNumberOfFingers) {
+            splitSegment(fingerArray.getLongestSegment());
+        }
+        
+        while (fingerArray.size() > optimalNumberOfFingers) {
+            mergeSegment(Math.max(1, fingerArray.getShortestSegment()));
         }
     }
     
-    private void fixNumberOfFingersAfterRemoval() {
-        int optimalNumberOfFingers = getFingersArrayOptimalLength(size);
+    /**
+     * Splits the segment if it is longer than {@code 2s} or merges it with its
+     * neighbour if it is shorter than {@code s / 2}. A split segment needs at
+     * least {@code s} more insertions before it is split again, so that the
+     * {@code O(sqrt(n))} work of adding or removing a finger is amortized over
+     * {@code O(s)} operations.
+     *
+     * @param segment the segment to check.
+     */
+    private void fixSegmentLength(int segment) {
+        int stride = getFingerStride(size);
+        int length = fingerArray.get(segment).length;
+        
+        if (length > 2 * stride) {
+            splitSegment(segment);
+        } else if (2 * length < stride && fingerArray.size() > 1) {
+            // The first segment is merged with its right neighbour:
+            segment = Math.max(1, segment);
+            mergeSegment(segment);
+            
+            if (fingerArray.get(segment - 1).length > 2 * stride) {
+                splitSegment(segment - 1);
+            }
+        }
+    }
+    
+    private void splitSegment(int segment) {
+        Finger<T> finger = fingerArray.get(segment);
+        int leftLength = finger.length / 2;
+        SquareFingerListNode<T> node = finger.node;
         
-        while (fingerDeque.size() > optimalNumberOfFingers) {
-            fingerDeque.removeFinger();
+        for (int i = 0; i < leftLength; i++) {
+            node = node.nextNode;
         }
+        
+        Finger<T> newFinger = new Finger<>(node, finger.length - leftLength);
+        finger.length = leftLength;
+        fingerArray.insertFinger(segment + 1, newFinger);
     }
     
-    private void addToEmptyList(T element) {
-        headNode = tailNode = new SquareFingerListNode<>(element);
-        fingerDeque.addFinger(new Finger<>(headNode));
+    /**
+     * Merges the segment into its left neighbour.
+     *
+     * @param segment the segment to merge. Must be positive.
+     */
+    private void mergeSegment(int segment) {
+        fingerArray.get(segment - 1).length += fingerArray.get(segment).length;
+        fingerArray.removeFinger(segment);
     }
     
-    private void appendToList(T element) {
-        SquareFingerListNode<T> node = new SquareFingerListNode<>(element);
+    private void appendToList(SquareFingerListNode<T> node) {
         tailNode.nextNode = node;
         node.previousNode = tailNode;
         tailNode = node;
-        updateFingerIndicesAfterAddition(size - 1, 1);
     }
     
-    private void prependToList(T element) {
-        SquareFingerListNode<T> node = new SquareFingerListNode<>(element);
-        headNode.previousNode = node;
-        node.nextNode = headNode;
-        headNode = node;
-        updateFingerIndicesAfterAddition(0, 1);
-    }
-    
-    private void insertToList(int index, T element) {
-        SquareFingerListNode<T> newNode = new SquareFingerListNode<>(element);
-        Finger<T> finger = fingerDeque.getClosestFinger(index);
-        SquareFingerListNode<T> targetNode = finger.node;
-        
-        // Out of two below for loops, only one will iterate at least once:
-        for (int i = 0; i < finger.index - index; i++) {
-            targetNode = targetNode.previousNode;
-        }
-        
-        for (int i = 0; i < index - finger.index; i++) {
-            targetNode = targetNode.nextNode;
-        }
-        
-        // Here, we have found the target node in front of which we need to 
-        // insert the new node:
+    private void insertToList(SquareFingerListNode<T> newNode,
+                              SquareFingerListNode<T> targetNode) {
         newNode.nextNode = targetNode;
         newNode.previousNode = targetNode.previousNode;
-        targetNode.previousNode.nextNode = newNode;
-        targetNode.previousNode = newNode;
         
-        // Update the finger indices:
-        updateFingerIndicesAfterAddition(index, 1);
+        if (targetNode.previousNode == null) {
+            headNode = newNode;
+        } else {
+            targetNode.previousNode.nextNode = newNode;
+        }
         
-        finger.index = index;
-        finger.node = newNode;
+        targetNode.previousNode = newNode;
     }
     
-    private void updateFingerIndicesAfterAddition(int index, int delta) {
-        for (int i = 0; i < fingerDeque.size(); i++) {
-            Finger<T> finger = fingerDeque.get(i);
+    /**
+     * Returns the node at the given offset of the segment by walking either
+     * from the finger of the segment or backwards from the start of the next
+     * segment, whichever is closer.
+     *
+     * @param segment the segment number.
+     * @param offset  the offset within the segment.
+     * @return the target node.
+     */
+    private SquareFingerListNode<T> getNode(int segment, int offset) {
+        Finger<T> finger = fingerArray.get(segment);
+        SquareFingerListNode<T> node;
+        
+        if (offset <= finger.length / 2) {
+            node = finger.node;
+            
+            for (int i = 0; i < offset; i++) {
+                node = node.nextNode;
+            }
+        } else if (segment + 1 < fingerArray.size()) {
+            node = fingerArray.get(segment + 1).node;
+            
+            for (int i = offset; i < finger.length; i++) {
+                node = node.previousNode;
+            }
+        } else {
+            node = tailNode;
             
-            if (finger.index >= index) {
-                finger.index += delta;
+            for (int i = offset; i < finger.length - 1; i++) {
+                node = node.previousNode;
             }
         }
+        
+        return node;
     }
     
     public T get(int index) {
         checkAccessIndex(index);
-        Finger<T> finger = fingerDeque.getClosestFinger(index);
-        
-        for (int i = 0; i < finger.index - index; i++) {
-            finger.index--;
-            finger.node = finger.node.previousNode;
+        int segment = fingerArray.findSegment(index);
+        int offset = index - fingerArray.getStartIndex(segment);
+        SquareFingerListNode<T> node = getNode(segment, offset);
+        
+        if (evenlySpacedFingers) {
+            // Keep the fingers where they are, but respace lazily the segments
+            // that were left behind by a change of the stride:
+            fixSegmentLength(segment);
+        } else if (offset > 0) {
+            moveFinger(segment, offset, node);
         }
         
-        for (int i = 0; i < index - finger.index; i++) {
-            finger.index++;
-            finger.node = finger.node.nextNode;
+        return node.element;
+    }
+    
+    /**
+     * Moves the finger that is closest to the accessed node to that node. The
+     * first finger stays at the head node.
+     *
+     * @param segment the segment of the accessed node.
+     * @param offset  the positive offset of the accessed node in the segment.
+     * @param node    the accessed node.
+     */
+    private void moveFinger(int segment,
+                            int offset,
+                            SquareFingerListNode<T> node) {
+        Finger<T> finger = fingerArray.get(segment);
+        
+        if (segment > 0 && offset <= finger.length / 2) {
+            fingerArray.addToLength(segment - 1, offset);
+            fingerArray.addToLength(segment, -offset);
+            finger.node = node;
+        } else if (segment + 1 < fingerArray.size()) {
+            int delta = finger.length - offset;
+            fingerArray.addToLength(segment + 1, delta);
+            fingerArray.addToLength(segment, -delta);
+            fingerArray.get(segment + 1).node = node;
         }
-        
-        return finger.node.element;
     }
     
     public void remove(int index) {
         checkAccessIndex(index);
+        int segment = fingerArray.findSegment(index);
+        int offset = index - fingerArray.getStartIndex(segment);
+        SquareFingerListNode<T> node = getNode(segment, offset);
+        Finger<T> finger = fingerArray.get(segment);
         
         if (size == 1) {
             removeFromListWithOnlyOneElement();
         } else if (index == 0) {
             removeHeadNode();
         } else if (index == size - 1) {
+            removeTailNode();
+        } else {
+            node.previousNode.nextNode = node.nextNode;
+            node.nextNode.previousNode = node.previousNode;
+        }
+        
+        if (finger.length == 1) {
+            // The segment becomes empty. The next finger, if any, points to
+            // node.nextNode already:
+            fingerArray.removeFinger(segment);
+            segment = Math.max(0, segment - 1);
+        } else {
+            if (offset == 0) {
+                finger.node = node.nextNode;
+            }
             
+            fingerArray.addToLength(segment, -1);
         }
         
         size--;
-        fixNumberOfFingersAfterRemoval();
+        modificationCount++;
+        
+        if (size == 0) {
+            return;
+        }
+        
+        if (evenlySpacedFingers) {
+            fixSegmentLength(segment);
+        } else {
+            fixNumberOfFingers();
+        }
     }
     
     private void removeHeadNode() {
@@ -200,40 +426,112 @@ public final class SquareFingerList<T> {
         headNode.previousNode = null;
     }
     
+    private void removeTailNode() {
+        tailNode = tailNode.previousNode;
+        tailNode.nextNode = null;
+    }
+    
     private void removeFromListWithOnlyOneElement() {
         // Only one element in the list. Easy:
         headNode = tailNode = null;
-        size = 0;
     }
     
     public int size() {
         return size;
     }
     
+    /**
+     * Returns a spliterator over the elements of this list. The spliterator
+     * splits at finger boundaries, using a snapshot of the fingers taken when
+     * it is created, so that no nodes are walked in order to split.
+     *
+     * @return a spliterator over this list.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Spliterator<T> spliterator() {
+        int numberOfFingers = fingerArray.size();
+        SquareFingerListNode<T>[] fingerNodes =
+                new SquareFingerListNode[numberOfFingers];
+        
+        int[] fingerStartIndices = new int[numberOfFingers];
+        int startIndex = 0;
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            Finger<T> finger = fingerArray.get(i);
+            fingerNodes[i] = finger.node;
+            fingerStartIndices[i] = startIndex;
+            startIndex += finger.length;
+        }
+        
+        return new SegmentSpliterator<>(this,
+                                        fingerNodes,
+                                        fingerStartIndices,
+                                        headNode,
+                                        0,
+                                        size,
+                                        1,
+                                        numberOfFingers);
+    }
+    
+    /**
+     * Performs the action for each element of this list in parallel in the
+     * common {@link java.util.concurrent.ForkJoinPool}. The action may be
+     * applied to different elements in different threads and in any order.
+     * The list must not be accessed while the action is running.
+     *
+     * @param action the action to perform.
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "The action is null.");
+        StreamSupport.stream(spliterator(), true).forEach(action);
+    }
+    
+    /**
+     * Reduces the elements of this list in parallel in the common
+     * {@link java.util.concurrent.ForkJoinPool}. The list must not be accessed
+     * while the reduction is running.
+     *
+     * @param identity    the identity value of the accumulator.
+     * @param accumulator an associative function combining two values.
+     * @return the result of the reduction.
+     */
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator, "The accumulator is null.");
+        return StreamSupport.stream(spliterator(), true)
+                            .reduce(identity, accumulator);
+    }
+    
     boolean hasCorrectState() {
         if (size == 0) {
-            for (Finger<T> finger : fingers) {
-                if (finger.node != null) {
-                    return false;
-                }
+            return fingerArray.size() == 0
+                    && headNode == null
+                    && tailNode == null;
+        }
+        
+        SquareFingerListNode<T> node = headNode;
+        int index = 0;
+        
+        for (int i = 0; i < fingerArray.size(); i++) {
+            Finger<T> finger = fingerArray.get(i);
+            
+            if (finger.node != node
+                    || finger.length < 1
+                    || fingerArray.getStartIndex(i) != index) {
+                return false;
             }
-        } else {
-            int index = 0;
-            
-            for (SquareFingerListNode<T> node = headNode;
-                 node != null;
-                 node = node.nextNode, index++) {
-                for (Finger<T> finger : fingers) {
-                    if (finger.node == node && finger.index != index) {
-                        return false;
-                    } else if (finger.index < 0) {
-                        return false;
-                    }
+            
+            for (int j = 0; j < finger.length; j++) {
+                if (node == null) {
+                    return false;
                 }
+                
+                node = node.nextNode;
             }
+            
+            index += finger.length;
         }
         
-        return true;
+        return node == null && index == size;
     }
     
     private void checkAccessIndex(int index) {
@@ -258,73 +556,306 @@ public final class SquareFingerList<T> {
         }
     }
     
-    private static int getFingersArrayOptimalLength(int size) {
-        return (int) Math.sqrt(size);
+    private int getFingersArrayOptimalLength(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        
+        int numberOfFingers = fingerDensityFunction.getNumberOfFingers(size);
+        return Math.max(1, Math.min(size, numberOfFingers));
     }
     
-    private class FingerDeque<T> {
+    private int getFingerStride(int size) {
+        int numberOfFingers = Math.max(1, getFingersArrayOptimalLength(size));
+        return Math.max(1, size / numberOfFingers);
+    }
+    
+    /**
+     * This static inner class implements a spliterator that hands out
+     * finger-delimited segments of the list. Each spliterator covers the index
+     * range {@code [index, fence)} and knows the fingers
+     * {@code lowFinger, ..., highFinger - 1} starting strictly inside it.
+     *
+     * @param <T> the element type.
+     */
+    private static final class SegmentSpliterator<T>
+            implements Spliterator<T> {
+        
+        private final SquareFingerList<T> list;
+        private final SquareFingerListNode<T>[] fingerNodes;
+        private final int[] fingerStartIndices;
+        private final int fence;
+        private final int expectedModificationCount;
+        private SquareFingerListNode<T> node;
+        private int index;
+        private int lowFinger;
+        private int highFinger;
+        
+        SegmentSpliterator(SquareFingerList<T> list,
+                           SquareFingerListNode<T>[] fingerNodes,
+                           int[] fingerStartIndices,
+                           SquareFingerListNode<T> node,
+                           int index,
+                           int fence,
+                           int lowFinger,
+                           int highFinger) {
+            this.list = list;
+            this.fingerNodes = fingerNodes;
+            this.fingerStartIndices = fingerStartIndices;
+            this.node = node;
+            this.index = index;
+            this.fence = fence;
+            this.lowFinger = lowFinger;
+            this.highFinger = highFinger;
+            this.expectedModificationCount = list.modificationCount;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            if (index >= fence) {
+                return false;
+            }
+            
+            checkForComodification();
+            T element = node.element;
+            node = node.nextNode;
+            index++;
+            
+            while (lowFinger < highFinger
+                    && fingerStartIndices[lowFinger] <= index) {
+                lowFinger++;
+            }
+            
+            action.accept(element);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            checkForComodification();
+            
+            for (; index < fence; index++) {
+                action.accept(node.element);
+                node = node.nextNode;
+            }
+            
+            lowFinger = highFinger;
+            checkForComodification();
+        }
+        
+        @Override
+        public Spliterator<T> trySplit() {
+            if (lowFinger >= highFinger) {
+                return null;
+            }
+            
+            int middleFinger = (lowFinger + highFinger) >>> 1;
+            int middleIndex = fingerStartIndices[middleFinger];
+            
+            SegmentSpliterator<T> prefix =
+                    new SegmentSpliterator<>(list,
+                                             fingerNodes,
+                                             fingerStartIndices,
+                                             node,
+                                             index,
+                                             middleIndex,
+                                             lowFinger,
+                                             middleFinger);
+            
+            node = fingerNodes[middleFinger];
+            index = middleIndex;
+            lowFinger = middleFinger + 1;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED |
+                   Spliterator.SIZED |
+                   Spliterator.SUBSIZED;
+        }
+        
+        private void checkForComodification() {
+            if (list.modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * This static inner class holds the fingers in list order together with a
+     * Fenwick tree over their segment lengths.
+     *
+     * @param <T> the element type.
+     */
+    private static final class FingerArray<T> {
         
         // The default finger array capacity.
         private static final int DEFAULT_FINGER_ARRAY_CAPACITY = 8;
         
-        // The ratio by which the finger deque array is expanded when new space
-        // is needed.
+        // The ratio by which the finger array is expanded when new space is
+        // needed.
         private static final float FINGER_ARRAY_EXPANSION_FACTORY = 1.5f;
         
-        private Finger<T>[] fingers;
-        private int headIndex;
-        private int tailIndex;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Finger<T>[] fingers =
+                new Finger[DEFAULT_FINGER_ARRAY_CAPACITY];
+        
+        // The 1-based Fenwick tree. tree[i] holds the total length of the
+        // segments i - (i & -i), ..., i - 1.
+        private int[] tree = new int[DEFAULT_FINGER_ARRAY_CAPACITY + 1];
+        
         private int size;
         
-        void addFinger(Finger<T> finger) {
+        Finger<T> get(int index) {
+            return fingers[index];
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        /**
+         * Appends the finger without updating the Fenwick tree. The caller
+         * must call {@link #rebuildTree()} once done with the bulk update.
+         *
+         * @param finger the finger to append.
+         */
+        void appendFinger(Finger<T> finger) {
             if (size == fingers.length) {
                 expandFingerArray();
             }
             
-            fingers[tailIndex] = finger;
-            tailIndex = (tailIndex + 1) % fingers.length;
+            fingers[size++] = finger;
+        }
+        
+        void insertFinger(int index, Finger<T> finger) {
+            if (size == fingers.length) {
+                expandFingerArray();
+            }
+            
+            System.arraycopy(fingers,
+                             index,
+                             fingers,
+                             index + 1,
+                             size - index);
+            
+            fingers[index] = finger;
             size++;
+            rebuildTree();
+        }
+        
+        void removeFinger(int index) {
+            System.arraycopy(fingers,
+                             index + 1,
+                             fingers,
+                             index,
+                             size - index - 1);
+            
+            fingers[--size] = null; // Let the GC do its job.
+            rebuildTree();
         }
         
-        Finger get(int index) {
-            return fingers[(headIndex + index) % fingers.length];
+        void addToLength(int index, int delta) {
+            fingers[index].length += delta;
+            
+            for (int i = index + 1; i <= size; i += i & -i) {
+                tree[i] += delta;
+            }
         }
         
-        void removeFinger() {
-            fingers[headIndex] = null; // Let the GC do its job.
-            headIndex = (headIndex + 1) % fingers.length;
-            size--;
+        /**
+         * Returns the list index of the node pointed to by the given finger.
+         *
+         * @param index the finger index.
+         * @return the total length of all the preceding segments.
+         */
+        int getStartIndex(int index) {
+            int startIndex = 0;
+            
+            for (int i = index; i > 0; i -= i & -i) {
+                startIndex += tree[i];
+            }
+            
+            return startIndex;
         }
         
-        Finger getClosestFinger(int index) {
-            Finger<T> closestFinger = null;
-            int closestDistance = Integer.MAX_VALUE;
+        /**
+         * Returns the segment containing the given list index by descending
+         * the Fenwick tree.
+         *
+         * @param index the list index.
+         * @return the segment number.
+         */
+        int findSegment(int index) {
+            int segment = 0;
             
-            for (int i = 0; i < size; i++) {
-                int fingerIndex = (headIndex + i) % fingers.length;
-                Finger<T> finger = fingers[fingerIndex];
-                int distance = Math.abs(index - finger.index);
+            for (int step = Integer.highestOneBit(size);
+                     step > 0;
+                     step >>>= 1) {
+                int nextSegment = segment + step;
                 
-                if (closestDistance > distance) {
-                    closestDistance = distance;
-                    closestFinger = finger;
+                if (nextSegment <= size && tree[nextSegment] <= index) {
+                    segment = nextSegment;
+                    index -= tree[nextSegment];
                 }
             }
             
-            SquareFingerList.this.shortestFingerDistance = closestDistance;
-            return closestFinger;
+            return segment;
         }
         
-        int size() {
-            return size;
+        int getLongestSegment() {
+            int longestSegment = 0;
+            
+            for (int i = 1; i < size; i++) {
+                if (fingers[longestSegment].length < fingers[i].length) {
+                    longestSegment = i;
+                }
+            }
+            
+            return longestSegment;
+        }
+        
+        int getShortestSegment() {
+            int shortestSegment = 0;
+            
+            for (int i = 1; i < size; i++) {
+                if (fingers[shortestSegment].length > fingers[i].length) {
+                    shortestSegment = i;
+                }
+            }
+            
+            return shortestSegment;
+        }
+        
+        void rebuildTree() {
+            for (int i = 1; i <= size; i++) {
+                tree[i] = fingers[i - 1].length;
+            }
+            
+            for (int i = 1; i <= size; i++) {
+                int parent = i + (i & -i);
+                
+                if (parent <= size) {
+                    tree[parent] += tree[i];
+                }
+            }
         }
         
         private void expandFingerArray() {
-            this.fingers = 
-                    Arrays.copyOf(
-                            this.fingers, 
-                            (int)(this.fingers.length * 
-                                  FINGER_ARRAY_EXPANSION_FACTORY));
+            int newCapacity =
+                    (int)(fingers.length * FINGER_ARRAY_EXPANSION_FACTORY);
+            
+            fingers = Arrays.copyOf(fingers, newCapacity);
+            tree = new int[newCapacity + 1];
         }
     }
 }
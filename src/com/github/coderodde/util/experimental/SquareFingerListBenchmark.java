@@ -0,0 +1,125 @@
+package com.github.coderodde.util.experimental;
+
+import java.util.Random;
+
+/**
+ * This class sweeps finger density functions and finger modes of
+ * {@link SquareFingerList} over a read-heavy and a write-heavy operation mix,
+ * and reports the fastest setting for each mix.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 13, 2020)
+ * @since 1.6
+ */
+public final class SquareFingerListBenchmark {
+    
+    private static final int LIST_SIZE = 100_000;
+    private static final int NUMBER_OF_OPERATIONS = 100_000;
+    
+    // The percentage of get operations in the read-heavy mix. The rest are
+    // additions and removals in equal proportions.
+    private static final int READ_HEAVY_MIX_READ_PERCENTAGE = 90;
+    
+    // The percentage of get operations in the write-heavy mix.
+    private static final int WRITE_HEAVY_MIX_READ_PERCENTAGE = 20;
+    
+    private static final String[] DENSITY_FUNCTION_NAMES = {
+        "0.5 * sqrt(n)",
+        "sqrt(n)",
+        "2 * sqrt(n)",
+        "4 * sqrt(n)",
+        "log2(n)",
+        "8 * log2(n)",
+        "64",
+        "1024",
+        "n^0.33",
+        "n^0.66",
+    };
+    
+    private static final FingerDensityFunction[] DENSITY_FUNCTIONS = {
+        FingerDensityFunction.squareRoot(0.5),
+        FingerDensityFunction.squareRoot(1.0),
+        FingerDensityFunction.squareRoot(2.0),
+        FingerDensityFunction.squareRoot(4.0),
+        FingerDensityFunction.logarithmic(1.0),
+        FingerDensityFunction.logarithmic(8.0),
+        FingerDensityFunction.constant(64),
+        FingerDensityFunction.constant(1024),
+        FingerDensityFunction.power(0.33),
+        FingerDensityFunction.power(0.66),
+    };
+    
+    public static void main(String[] args) {
+        long seed = args.length > 0 ?
+                Long.parseLong(args[0]) :
+                System.currentTimeMillis();
+        
+        System.out.println("Seed = " + seed);
+        
+        // Warm up the JVM:
+        run(new SquareFingerList<>(), READ_HEAVY_MIX_READ_PERCENTAGE, seed);
+        run(new SquareFingerList<>(true),
+            WRITE_HEAVY_MIX_READ_PERCENTAGE,
+            seed);
+        
+        benchmark("read-heavy", READ_HEAVY_MIX_READ_PERCENTAGE, seed);
+        benchmark("write-heavy", WRITE_HEAVY_MIX_READ_PERCENTAGE, seed);
+    }
+    
+    private static void benchmark(String mixName,
+                                  int readPercentage,
+                                  long seed) {
+        String bestSetting = null;
+        long bestDuration = Long.MAX_VALUE;
+        
+        for (boolean evenlySpacedFingers : new boolean[]{ false, true }) {
+            for (int i = 0; i < DENSITY_FUNCTIONS.length; i++) {
+                SquareFingerList<Integer> list =
+                        new SquareFingerList<>(evenlySpacedFingers,
+                                               DENSITY_FUNCTIONS[i]);
+                
+                long duration = run(list, readPercentage, seed);
+                String setting = DENSITY_FUNCTION_NAMES[i] +
+                        (evenlySpacedFingers ?
+                                ", evenly spaced" :
+                                ", adaptive");
+                
+                System.out.println(
+                        mixName + ", " + setting + " in " + duration + " ms.");
+                
+                if (bestDuration > duration) {
+                    bestDuration = duration;
+                    bestSetting = setting;
+                }
+            }
+        }
+        
+        System.out.println("Best setting for the " + mixName + " mix: " +
+                bestSetting + " in " + bestDuration + " ms.");
+        System.out.println("------");
+    }
+    
+    private static long run(SquareFingerList<Integer> list,
+                            int readPercentage,
+                            long seed) {
+        Random random = new Random(seed);
+        
+        for (int i = 0; i < LIST_SIZE; i++) {
+            list.add(i, i);
+        }
+        
+        long start = System.currentTimeMillis();
+        
+        for (int i = 0; i < NUMBER_OF_OPERATIONS; i++) {
+            if (random.nextInt(100) < readPercentage) {
+                list.get(random.nextInt(list.size()));
+            } else if (random.nextBoolean()) {
+                list.add(random.nextInt(list.size() + 1), i);
+            } else {
+                list.remove(random.nextInt(list.size()));
+            }
+        }
+        
+        return System.currentTimeMillis() - start;
+    }
+}
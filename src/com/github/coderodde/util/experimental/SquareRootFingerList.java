@@ -1,17 +1,43 @@
 package com.github.coderodde.util.experimental;
 
+import java.util.AbstractList;
 import java.util.AbstractSequentialList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 /**
  * This class implements a doubly-linked list that maintains a set of so called
  * fingers in order to access the target nodes faster.
+ * <p>
+ * The fingers are kept sorted by their indices, and no two consecutive fingers
+ * (or the head and the tail nodes and their closest fingers) are more than
+ * about {@code 4 * sqrt(size)} positions apart. A gap is split once it grows 
+ * beyond twice the current finger stride, and the fingers are re-spaced 
+ * evenly whenever the list shrinks below a quarter of its largest size since
+ * the previous re-spacing. The fingers store their indices
+ * relative to a common base offset, so that the operations at the head of the
+ * list shift all the fingers in constant time. Together with the rare
+ * amortized addition and removal of fingers, this makes all the {@link Deque}
+ * operations run in amortized constant time, and all the positional operations
+ * run in {@code O(sqrt(n))} time in the worst case. In addition, the list 
+ * remembers the most recently accessed node as the access finger, so that 
+ * accessing the same or a nearby position again is fast.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 13, 2020)
@@ -35,33 +61,131 @@ public final class SquareRootFingerList<E>
         private SquareRootFingerListNode<T> node;
         private int index;
         
-        Finger(SquareRootFingerListNode node, int index) {
+        Finger(SquareRootFingerListNode<T> node, int index) {
             this.node = node;
             this.index = index;
         }
     }
     
+    /**
+     * This static inner class holds the fingers sorted by their indices, the
+     * rightmost finger being on the top of the stack. The actual index of a 
+     * finger is its stored index plus {@code indexOffset}. In addition, the
+     * fingers at positions {@code pendingPosition} and above have not been
+     * shifted by {@code pendingDelta} yet, so that repeated shifts starting 
+     * from the same position, such as the ones caused by consecutive 
+     * insertions at a list iterator, run in constant time.
+     * 
+     * @param <E> the element type.
+     */
     private static final class FingerStack<E> {
         private static final int DEFAULT_FINGER_QUEUE_ARRAY_CAPACITY = 8;
         
         private int size;
-        private int mask = DEFAULT_FINGER_QUEUE_ARRAY_CAPACITY - 1;
-        private int topIndex;
+        private int indexOffset;
+        private int pendingPosition;
+        private int pendingDelta;
         private Finger<E>[] fingerArray = 
                 new Finger[DEFAULT_FINGER_QUEUE_ARRAY_CAPACITY];
         
-        public void pushFinger(Finger<E> finger) {
-            ensureCapacity(++size);
-            fingerArray[topIndex] = finger;
-            topIndex = (topIndex + 1) & mask;
+        public void pushFinger(SquareRootFingerListNode<E> node, int index) {
+            insertFinger(size, node, index);
         }
         
         public void popFinger() {
-            int nextTailIndex = (topIndex - 1) & mask;
+            removeFinger(size - 1);
+        }
+        
+        public void insertFinger(int position, 
+                                 SquareRootFingerListNode<E> node, 
+                                 int index) {
+            ensureCapacity(size + 1);
+            System.arraycopy(fingerArray, 
+                             position, 
+                             fingerArray, 
+                             position + 1, 
+                             size - position);
+            
+            if (position < pendingPosition) {
+                pendingPosition++;
+            } else {
+                index -= pendingDelta;
+            }
+            
+            fingerArray[position] = new Finger<>(node, index - indexOffset);
+            size++;
+        }
+        
+        /**
+         * Inserts the first {@code count} fingers described by the given 
+         * arrays to the given position. The fingers must be sorted by their
+         * indices and fit between the neighbouring fingers.
+         * 
+         * @param position the position of the first new finger.
+         * @param nodes    the nodes of the new fingers.
+         * @param indices  the indices of the new fingers.
+         * @param count    the number of the new fingers.
+         */
+        public void insertFingers(int position, 
+                                  SquareRootFingerListNode<E>[] nodes,
+                                  int[] indices,
+                                  int count) {
+            ensureCapacity(size + count);
+            System.arraycopy(fingerArray, 
+                             position, 
+                             fingerArray, 
+                             position + count, 
+                             size - position);
+            
+            int indexDelta = indexOffset;
+            
+            if (position < pendingPosition) {
+                pendingPosition += count;
+            } else {
+                indexDelta += pendingDelta;
+            }
+            
+            for (int i = 0; i < count; i++) {
+                fingerArray[position + i] = 
+                        new Finger<>(nodes[i], indices[i] - indexDelta);
+            }
+            
+            size += count;
+        }
+        
+        public void removeFinger(int position) {
+            removeFingers(position, position + 1);
+        }
+        
+        /**
+         * Removes the fingers at positions {@code fromPosition}, inclusive,
+         * through {@code toPosition}, exclusive.
+         * 
+         * @param fromPosition the position of the first finger to remove.
+         * @param toPosition   the position one past the last finger to remove.
+         */
+        public void removeFingers(int fromPosition, int toPosition) {
+            int numberOfFingersToRemove = toPosition - fromPosition;
+            
+            if (numberOfFingersToRemove == 0) {
+                return;
+            }
+            
+            System.arraycopy(fingerArray, 
+                             toPosition, 
+                             fingerArray, 
+                             fromPosition, 
+                             size - toPosition);
+            
+            if (pendingPosition >= toPosition) {
+                pendingPosition -= numberOfFingersToRemove;
+            } else if (pendingPosition > fromPosition) {
+                pendingPosition = fromPosition;
+            }
+            
             // Let the garbage collector do its work:
-            fingerArray[nextTailIndex] = null;
-            topIndex = nextTailIndex;
-            size--;
+            Arrays.fill(fingerArray, size - numberOfFingersToRemove, size, null);
+            size -= numberOfFingersToRemove;
         }
         
         public int size() {
@@ -69,48 +193,180 @@ public final class SquareRootFingerList<E>
         }
         
         public Finger<E> get(int i) {
-            return fingerArray[topIndex - 1];
+            return fingerArray[i];
+        }
+        
+        public int getIndex(int i) {
+            int index = fingerArray[i].index + indexOffset;
+            
+            if (i >= pendingPosition) {
+                index += pendingDelta;
+            }
+            
+            return index;
+        }
+        
+        public SquareRootFingerListNode<E> getNode(int i) {
+            return fingerArray[i].node;
+        }
+        
+        /**
+         * Returns the position of the leftmost finger whose index is at least
+         * {@code index}, or {@code size()} if there is no such finger.
+         * 
+         * @param index the target index.
+         * @return the position of the finger.
+         */
+        public int findPosition(int index) {
+            int low = 0;
+            int high = size;
+            
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                
+                if (getIndex(middle) < index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            
+            return low;
+        }
+        
+        /**
+         * Adds {@code delta} to the indices of the fingers starting from the
+         * given position. Shifting all the fingers, or shifting from the same
+         * position as the previous shift, takes constant time.
+         * 
+         * @param position the position of the first finger to shift.
+         * @param delta    the value to add to the finger indices.
+         */
+        public void shiftIndices(int position, int delta) {
+            if (position == 0) {
+                indexOffset += delta;
+                return;
+            }
+            
+            if (position != pendingPosition) {
+                flushPendingShift();
+                pendingPosition = position;
+            }
+            
+            pendingDelta += delta;
+        }
+        
+        private void flushPendingShift() {
+            if (pendingDelta != 0) {
+                for (int i = pendingPosition; i < size; i++) {
+                    fingerArray[i].index += pendingDelta;
+                }
+                
+                pendingDelta = 0;
+            }
         }
         
-        public Finger<E> findClosestFinger(int index) {
-            int closestDistance = Integer.MAX_VALUE;
-            Finger<E> closestFinger = null;
-            Finger<E> finger = fingerArray[0];
+        /**
+         * Returns the position of the finger whose removal leaves the shortest
+         * gap between its neighbours.
+         * 
+         * @param listSize the size of the owner list.
+         * @return the position of the most redundant finger.
+         */
+        public int findMostRedundantFinger(int listSize) {
+            int bestPosition = 0;
+            int bestGap = Integer.MAX_VALUE;
             
-            while (finger != null) {
-                int distance = Math.abs(finger.index - index);
+            for (int i = 0; i < size; i++) {
+                int leftIndex = i == 0 ? 0 : getIndex(i - 1);
+                int rightIndex = i == size - 1 ? listSize - 1 : getIndex(i + 1);
+                int gap = rightIndex - leftIndex;
                 
-                if (closestDistance > distance) {
-                    closestDistance = distance;
-                    closestFinger = finger;
+                if (bestGap > gap) {
+                    bestGap = gap;
+                    bestPosition = i;
                 }
             }
             
-            return closestFinger;
+            return bestPosition;
+        }
+        
+        /**
+         * Returns the position of the finger closest to the given index, or
+         * {@code -1} if there are no fingers.
+         * 
+         * @param index the target index.
+         * @return the position of the closest finger.
+         */
+        public int findClosestFinger(int index) {
+            int position = findPosition(index);
+            
+            if (position == size) {
+                return position - 1;
+            }
+            
+            if (position > 0 
+                    && index - getIndex(position - 1) 
+                    < getIndex(position) - index) {
+                return position - 1;
+            }
+            
+            return position;
         }
         
         public void clear() {
             size = 0;
-            topIndex = 0;
-            mask = DEFAULT_FINGER_QUEUE_ARRAY_CAPACITY - 1;
+            indexOffset = 0;
+            pendingPosition = 0;
+            pendingDelta = 0;
             fingerArray = new Finger[DEFAULT_FINGER_QUEUE_ARRAY_CAPACITY];
         }
         
         private void ensureCapacity(int requestedCapacity) {
             if (fingerArray.length < requestedCapacity) {
-                int nextCapacity = size * 2;
+                int nextCapacity = 
+                        Math.max(requestedCapacity, 2 * fingerArray.length);
+                
                 fingerArray = Arrays.copyOf(fingerArray, nextCapacity);
-                mask = nextCapacity - 1;
             }
         }
     }
     
-    private transient final FingerStack<E> fingerStack = new FingerStack<>();
+    private static final long serialVersionUID = 1L;
+    
+    // The lists smaller than this are searched sequentially even when a 
+    // parallel search is requested:
+    private static final int PARALLEL_SEARCH_THRESHOLD = 10_000;
+    
+    // The argument collections of removeAll and retainAll that are larger than
+    // this and are not sets are copied to a hash set for fast lookups:
+    private static final int HASH_LOOKUP_THRESHOLD = 16;
+    
+    private transient FingerStack<E> fingerStack = new FingerStack<>();
     private transient SquareRootFingerListNode<E> headNode;
     private transient SquareRootFingerListNode<E> tailNode;
+    private transient Finger<E> accessFinger;
     private transient int size;
     private transient int modificationCount;
     
+    // The largest size of the list since the fingers were last spaced evenly.
+    // The gaps between the fingers are bounded by the finger stride of this
+    // size.
+    private transient int peakSize;
+    
+    public SquareRootFingerList() {
+    }
+    
+    /**
+     * Constructs a new list holding the elements of the input collection in
+     * the iteration order of the collection.
+     *
+     * @param c the collection of initial elements.
+     */
+    public SquareRootFingerList(Collection<? extends E> c) {
+        addAll(c);
+    }
+    
     @Override
     public int size() {
         return size;
@@ -121,12 +377,29 @@ public final class SquareRootFingerList<E>
         return size == 0;
     }
     
+    /**
+     * Returns {@code true} if this list contains the given element. The list
+     * is scanned from both ends at once, so that an element near either end 
+     * is found quickly.
+     * 
+     * @param o the element to search for.
+     * @return {@code true} if the element is in this list.
+     */
     @Override
     public boolean contains(Object o) {
-        for (SquareRootFingerListNode<E> node = headNode; node != null; node = node.next) {
-            if (Objects.equals(o, node.datum)) {
+        SquareRootFingerListNode<E> forwardNode = headNode;
+        SquareRootFingerListNode<E> backwardNode = tailNode;
+        
+        for (int forwardIndex = 0, backwardIndex = size - 1;
+                forwardIndex <= backwardIndex;
+                forwardIndex++, backwardIndex--) {
+            if (Objects.equals(o, forwardNode.datum) 
+                    || Objects.equals(o, backwardNode.datum)) {
                 return true;
             }
+            
+            forwardNode = forwardNode.next;
+            backwardNode = backwardNode.prev;
         }
         
         return false;
@@ -134,7 +407,7 @@ public final class SquareRootFingerList<E>
     
     @Override
     public Iterator<E> iterator() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return listIterator(0);
     }
 
     @Override
@@ -150,101 +423,374 @@ public final class SquareRootFingerList<E>
         return resultArray;
     }
 
+    /**
+     * Returns an array containing all the elements of this list. If the input
+     * array is large enough, it is filled and returned, and the slot right 
+     * after the last element, if any, is set to {@code null}. Otherwise, a new 
+     * array of the same runtime type is allocated.
+     * 
+     * @param <T> the array component type.
+     * @param a   the array to fill, if large enough.
+     * @return the array containing the elements of this list.
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T[] toArray(T[] a) {
-        return null;
+        if (a.length < size) {
+            a = (T[]) java.lang.reflect.Array.newInstance(
+                    a.getClass().getComponentType(), 
+                    size);
+        }
+        
+        SquareRootFingerListNode<E> node = headNode;
+        
+        for (int i = 0; i < size; i++) {
+            a[i] = (T) node.datum;
+            node = node.next;
+        }
+        
+        if (a.length > size) {
+            a[size] = null;
+        }
+        
+        return a;
+    }
+    
+    /**
+     * Copies the elements at indices {@code fromIndex}, inclusive, through 
+     * {@code toIndex}, exclusive, to the destination array starting from 
+     * {@code destinationPosition}. The traversal starts from the node at 
+     * {@code fromIndex}, which is located via the closest finger, so copying 
+     * a range of length {@code k} runs in {@code O(k + sqrt(n))} time and 
+     * allocates nothing.
+     * 
+     * @param fromIndex           the index of the first element to copy.
+     * @param toIndex             the index one past the last element to copy.
+     * @param destination         the destination array.
+     * @param destinationPosition the position of the first copied element in 
+     *                            the destination array.
+     */
+    public void copyRange(int fromIndex, 
+                          int toIndex, 
+                          Object[] destination, 
+                          int destinationPosition) {
+        checkSubListRange(fromIndex, toIndex, size);
+        int length = toIndex - fromIndex;
+        
+        if (destinationPosition < 0 
+                || destinationPosition > destination.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "destinationPosition(" + destinationPosition + 
+                    "), length(" + length + "), destination.length(" + 
+                    destination.length + ")");
+        }
+        
+        if (length == 0) {
+            return;
+        }
+        
+        SquareRootFingerListNode<E> node = getNode(fromIndex);
+        
+        for (int i = 0; i < length; i++) {
+            destination[destinationPosition + i] = node.datum;
+            node = node.next;
+        }
     }
 
     @Override
     public boolean add(E e) {
-        if (size == 0) {
-            addToEmptyList(e);
-        } else {
-            // Append to a non-empty list:
-            appendToList(e);
-        }
-        
-        size++;
-        fixFingerArrayAfterAddition();
+        linkLast(e);
         return true;
     }
     
     @Override
     public boolean remove(Object o) {
-        int index = 0;
+        int index = bidirectionalIndexOf(o);
         
-        for (SquareRootFingerListNode<E> node = headNode; 
-                node != null; 
-                node = node.next, index++) {
-            if (Objects.equals(o, node.datum)) {
-                removeNode(index, node);
-                return true;
-            }
+        if (index == -1) {
+            return false;
         }
         
-        return false;
+        // The search left the access finger at the target node:
+        removeNode(index, getNode(index));
+        return true;
+    }
+    
+    private E removeNode(int index, SquareRootFingerListNode<E> node) {
+        unlink(node);
+        --size;
+        modificationCount++;
+        fixFingersAfterRemoval(index);
+        return node.datum;
     }
     
-    private void removeNode(int index, SquareRootFingerListNode<E> node) {
+    /**
+     * Unlinks the node from its neighbours without updating the size and the
+     * fingers.
+     * 
+     * @param node the node to unlink.
+     */
+    private void unlink(SquareRootFingerListNode<E> node) {
         if (node.prev == null) {
             headNode = node.next;
-            headNode.prev = null;
         } else {
             node.prev.next = node.next;
         }
         
         if (node.next == null) {
             tailNode = node.prev;
-            tailNode.next = null;
         } else {
             node.next.prev = node.prev;
         }
+    }
+    
+    /**
+     * Unlinks all the nodes whose elements match the filter in a single pass,
+     * and rebuilds the fingers once at the end, even if the filter throws.
+     * 
+     * @param filter the filter selecting the elements to remove.
+     * @return {@code true} if any elements were removed.
+     */
+    private boolean removeMatchingNodes(Predicate<? super E> filter) {
+        int oldSize = size;
         
-        --size;
+        try {
+            SquareRootFingerListNode<E> nextNode;
+            
+            for (SquareRootFingerListNode<E> node = headNode; 
+                    node != null; 
+                    node = nextNode) {
+                nextNode = node.next;
+                
+                if (filter.test(node.datum)) {
+                    unlink(node);
+                    size--;
+                }
+            }
+        } finally {
+            if (size != oldSize) {
+                modificationCount++;
+                rebuildFingers();
+            }
+        }
         
-        fixFingerStackSizeAfterRemoval();
-        fixFingerStackFingersAfterRemoval(index);
+        return size != oldSize;
     }
     
-    private void fixFingerStackFingersAfterRemoval(int index) {
-        for (int i = 0; i < fingerStack.size(); i++) {
-            Finger<E> finger = fingerStack.get(i);
-            
-            if (finger.index >= index) {
-                finger.index--;
+    /**
+     * Rebuilds the fingers from scratch in a single pass over the list, 
+     * placing a finger at every node whose index is a multiple of the finger
+     * stride.
+     */
+    private void rebuildFingers() {
+        fingerStack.clear();
+        accessFinger = null;
+        peakSize = size;
+        
+        int fingerStride = getFingerStride();
+        int index = 0;
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null; 
+                node = node.next, index++) {
+            if (index % fingerStride == 0) {
+                fingerStack.pushFinger(node, index);
             }
         }
     }
     
-    private void fixFingerStackFingersAfterAddition(int index) {
-        for (int i = 0; i < fingerStack.size(); i++) {
-            Finger<E> finger = fingerStack.get(i);
-            
-            if (finger.index >= index) {
-                finger.index++;
+    private static Collection<?> getLookupCollection(Collection<?> c) {
+        if (c instanceof Set || c.size() <= HASH_LOOKUP_THRESHOLD) {
+            return c;
+        }
+        
+        return new HashSet<>(c);
+    }
+    
+    /**
+     * Unlinks the nodes from {@code firstNode} through {@code lastNode} at 
+     * indices {@code fromIndex}, inclusive, through {@code toIndex}, exclusive,
+     * in time linear in the length of the range, not in the size of the list.
+     * 
+     * @param fromIndex the index of {@code firstNode}.
+     * @param toIndex   the index one past {@code lastNode}.
+     * @param firstNode the first node to unlink.
+     * @param lastNode  the last node to unlink.
+     */
+    private void unlinkRange(int fromIndex, 
+                             int toIndex, 
+                             SquareRootFingerListNode<E> firstNode, 
+                             SquareRootFingerListNode<E> lastNode) {
+        if (firstNode.prev == null) {
+            headNode = lastNode.next;
+        } else {
+            firstNode.prev.next = lastNode.next;
+        }
+        
+        if (lastNode.next == null) {
+            tailNode = firstNode.prev;
+        } else {
+            lastNode.next.prev = firstNode.prev;
+        }
+        
+        size -= toIndex - fromIndex;
+        modificationCount++;
+        fixFingersAfterRangeRemoval(fromIndex, toIndex);
+    }
+    
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < toIndex) {
+            SquareRootFingerListNode<E> firstNode = getNode(fromIndex);
+            SquareRootFingerListNode<E> lastNode = getNode(toIndex - 1);
+            unlinkRange(fromIndex, toIndex, firstNode, lastNode);
+        }
+    }
+    
+    private void fixFingersAfterRemoval(int index) {
+        fixFingersAfterRangeRemoval(index, index + 1);
+    }
+    
+    /**
+     * Removes the fingers pointing to the removed nodes at indices 
+     * {@code fromIndex}, inclusive, through {@code toIndex}, exclusive, and
+     * shifts the fingers on the right of the removed range.
+     * 
+     * @param fromIndex the index of the first removed node.
+     * @param toIndex   the index one past the last removed node.
+     */
+    private void fixFingersAfterRangeRemoval(int fromIndex, int toIndex) {
+        if (accessFinger != null) {
+            if (accessFinger.index >= toIndex) {
+                accessFinger.index -= toIndex - fromIndex;
+            } else if (accessFinger.index >= fromIndex) {
+                accessFinger = null;
             }
         }
+        
+        if (size == 0) {
+            fingerStack.clear();
+            peakSize = 0;
+            return;
+        }
+        
+        // The sizes only grow between two removals, so the size before this
+        // removal is the largest one since the previous removal:
+        peakSize = Math.max(peakSize, size + toIndex - fromIndex);
+        
+        if (size < peakSize / 4) {
+            // The finger stride has halved since the fingers were spaced, and
+            // the existing gaps would not shrink along with it:
+            rebuildFingers();
+            return;
+        }
+            
+        int position = fingerStack.findPosition(fromIndex);
+        
+        fingerStack.removeFingers(position, fingerStack.findPosition(toIndex));
+        fingerStack.shiftIndices(position, fromIndex - toIndex);
+        fixGap(position);
+        fixNumberOfFingers();
     }
     
-    private void fixFingerStackSizeAfterRemoval() {
-        int optimalNumberOfFingers = getOptimalNumberOfFingers();
+    private void fixFingersAfterAddition(int index) {
+        if (accessFinger != null && accessFinger.index >= index) {
+            accessFinger.index++;
+        }
+        
+        int position = fingerStack.findPosition(index);
+        fingerStack.shiftIndices(position, 1);
+        fixGap(position);
+    }
+    
+    /**
+     * Adds a finger to the middle of the gap between the fingers at positions
+     * {@code position - 1} and {@code position} if the gap is longer than twice
+     * the finger stride. The head and the tail nodes delimit the first and the
+     * last gaps. Since a new gap needs about {@code s} more insertions before
+     * it is split again, adding fingers costs amortized constant time.
+     * 
+     * @param position the position of the finger on the right of the gap.
+     */
+    private void fixGap(int position) {
+        int leftIndex;
+        SquareRootFingerListNode<E> node;
+        
+        if (position == 0) {
+            leftIndex = 0;
+            node = headNode;
+        } else {
+            leftIndex = fingerStack.getIndex(position - 1);
+            node = fingerStack.getNode(position - 1);
+        }
+        
+        int rightIndex = position == fingerStack.size() ? 
+                size - 1 : 
+                fingerStack.getIndex(position);
         
-        if (fingerStack.size() > optimalNumberOfFingers) {
-            fingerStack.popFinger();
+        int gap = rightIndex - leftIndex;
+        
+        if (gap <= 2 * getFingerStride()) {
+            return;
+        }
+        
+        int middleIndex = leftIndex + gap / 2;
+        
+        for (int i = leftIndex; i < middleIndex; i++) {
+            node = node.next;
         }
+        
+        fingerStack.insertFinger(position, node, middleIndex);
     }
     
-    private void fixFingerStackAfterAddition() {
-        int optimalNumberOfFingers = getOptimalNumberOfFingers();
+    private void fixNumberOfFingers() {
+        int maximumNumberOfFingers = 2 * getOptimalNumberOfFingers() + 2;
         
-        while (fingerStack.size() < optimalNumberOfFingers) {
-            fingerStack.pushFinger(new Finger<>(tailNode, size - 1));
+        while (fingerStack.size() > maximumNumberOfFingers) {
+            fingerStack.removeFinger(
+                    fingerStack.findMostRedundantFinger(size));
         }
     }
     
     private int getOptimalNumberOfFingers() {
         return (int) Math.sqrt(size);
     }
+    
+    private int getFingerStride() {
+        return getFingerStride(size);
+    }
+    
+    private static int getFingerStride(int size) {
+        return Math.max(1, (int) Math.sqrt(size));
+    }
+    
+    /**
+     * Appends the element to the tail of the list without the usual finger
+     * maintenance, and pushes a finger to the new node if its index is a 
+     * multiple of {@code fingerStride}. Building a list of final size 
+     * {@code n} out of these calls with the stride of {@code n} places the
+     * fingers evenly in a single pass.
+     * 
+     * @param e            the element to append.
+     * @param fingerStride the distance between two consecutive fingers.
+     */
+    private void appendNode(E e, int fingerStride) {
+        SquareRootFingerListNode<E> newNode = new SquareRootFingerListNode<>(e);
+        
+        if (tailNode == null) {
+            headNode = tailNode = newNode;
+        } else {
+            tailNode.next = newNode;
+            newNode.prev = tailNode;
+            tailNode = newNode;
+        }
+        
+        if (size % fingerStride == 0) {
+            fingerStack.pushFinger(newNode, size);
+        }
+        
+        size++;
+    }
 
     @Override
     public boolean containsAll(Collection<?> c) {
@@ -259,65 +805,273 @@ public final class SquareRootFingerList<E>
 
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return addAll(size, c);
     }
 
+    /**
+     * Inserts all the elements of the given collection to the given index. 
+     * The new nodes are linked into a chain that is spliced into the list at
+     * once. If the collection is at least as large as this list, the fingers
+     * are rebuilt from scratch. Otherwise, the fingers on the right of the 
+     * insertion point are shifted once, and evenly spaced fingers are dropped
+     * on the new nodes while the chain is built. Either way, the method runs
+     * in {@code O(m + sqrt(n))} time, where {@code m} is the size of the 
+     * collection.
+     * 
+     * @param index the index of the first inserted element.
+     * @param c     the collection of elements to insert.
+     * @return {@code true} if this list changed.
+     */
     @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public boolean addAll(int index, Collection<? extends E> c) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        checkAddIndex(index);
+        Object[] elements = c.toArray();
+        int numberOfNewElements = elements.length;
+        
+        if (numberOfNewElements == 0) {
+            return false;
+        }
+        
+        SquareRootFingerListNode<E> successor = 
+                index == size ? null : getNode(index);
+        
+        SquareRootFingerListNode<E> predecessor = 
+                successor == null ? tailNode : successor.prev;
+        
+        boolean rebuildAllFingers = numberOfNewElements >= size;
+        int fingerStride = getFingerStride(size + numberOfNewElements);
+        int numberOfNewFingers = 0;
+        SquareRootFingerListNode<E>[] newFingerNodes = null;
+        int[] newFingerIndices = null;
+        
+        if (!rebuildAllFingers) {
+            int maximumNumberOfNewFingers = 
+                    (numberOfNewElements - 1) / fingerStride + 1;
+            
+            newFingerNodes = 
+                    new SquareRootFingerListNode[maximumNumberOfNewFingers];
+            
+            newFingerIndices = new int[maximumNumberOfNewFingers];
+        }
+        
+        SquareRootFingerListNode<E> firstNode = 
+                new SquareRootFingerListNode<>((E) elements[0]);
+        
+        SquareRootFingerListNode<E> lastNode = firstNode;
+        
+        for (int i = 0; i < numberOfNewElements; i++) {
+            if (i > 0) {
+                SquareRootFingerListNode<E> newNode = 
+                        new SquareRootFingerListNode<>((E) elements[i]);
+                
+                newNode.prev = lastNode;
+                lastNode.next = newNode;
+                lastNode = newNode;
+            }
+            
+            if (!rebuildAllFingers && i % fingerStride == 0) {
+                newFingerNodes[numberOfNewFingers] = lastNode;
+                newFingerIndices[numberOfNewFingers++] = index + i;
+            }
+        }
+        
+        firstNode.prev = predecessor;
+        lastNode.next = successor;
+        
+        if (predecessor == null) {
+            headNode = firstNode;
+        } else {
+            predecessor.next = firstNode;
+        }
+        
+        if (successor == null) {
+            tailNode = lastNode;
+        } else {
+            successor.prev = lastNode;
+        }
+        
+        size += numberOfNewElements;
+        modificationCount++;
+        
+        if (rebuildAllFingers) {
+            rebuildFingers();
+            return true;
+        }
+        
+        if (accessFinger != null && accessFinger.index >= index) {
+            accessFinger.index += numberOfNewElements;
+        }
+        
+        int position = fingerStack.findPosition(index);
+        fingerStack.shiftIndices(position, numberOfNewElements);
+        fingerStack.insertFingers(position, 
+                                  newFingerNodes, 
+                                  newFingerIndices, 
+                                  numberOfNewFingers);
+        
+        fixGap(position + numberOfNewFingers);
+        fixNumberOfFingers();
+        return true;
     }
 
+    /**
+     * Removes all the elements contained in the given collection in a single
+     * pass over this list. Large collections that are not sets are first 
+     * copied to a hash set.
+     * 
+     * @param c the collection of elements to remove.
+     * @return {@code true} if this list changed.
+     */
     @Override
     public boolean removeAll(Collection<?> c) {
-        boolean removedAny = false;
-    
-        for (Object o : c) {
-            if (remove(o)) {
-                removedAny = true;
-            }
-        }
+        Collection<?> lookupCollection = 
+                getLookupCollection(Objects.requireNonNull(c));
         
-        return removedAny;
+        return removeMatchingNodes(lookupCollection::contains);
     }
 
+    /**
+     * Removes all the elements not contained in the given collection in a 
+     * single pass over this list. Large collections that are not sets are 
+     * first copied to a hash set.
+     * 
+     * @param c the collection of elements to retain.
+     * @return {@code true} if this list changed.
+     */
     @Override
     public boolean retainAll(Collection<?> c) {
-        boolean removedAny = false;
+        Collection<?> lookupCollection = 
+                getLookupCollection(Objects.requireNonNull(c));
         
-        for (Object o : c) {
-            if (!contains(o)) {
-                remove(o);
-            }
+        return removeMatchingNodes(e -> !lookupCollection.contains(e));
+    }
+
+    /**
+     * Removes all the elements satisfying the filter in a single pass over 
+     * the nodes, and rebuilds the fingers once at the end.
+     * 
+     * @param filter the filter selecting the elements to remove.
+     * @return {@code true} if any elements were removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeMatchingNodes(Objects.requireNonNull(filter));
+    }
+    
+    /**
+     * Replaces each element with the result of applying the operator to it,
+     * walking the nodes directly. The fingers are not affected.
+     * 
+     * @param operator the operator to apply to each element.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModificationCount = modificationCount;
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null && modificationCount == expectedModificationCount; 
+                node = node.next) {
+            node.datum = operator.apply(node.datum);
+        }
+        
+        if (modificationCount != expectedModificationCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+    
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModificationCount = modificationCount;
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null && modificationCount == expectedModificationCount; 
+                node = node.next) {
+            action.accept(node.datum);
         }
         
-        return removedAny;
+        if (modificationCount != expectedModificationCount) {
+            throw new ConcurrentModificationException();
+        }
     }
 
     @Override
     public void clear() {
         fingerStack.clear();
+        accessFinger = null;
         size = 0;
+        peakSize = 0;
         headNode = null;
         tailNode = null;
+        modificationCount++;
     }
 
     @Override
     public E get(int index) {
         checkAccessIndex(index);
-        Finger<E> finger = fingerStack.findClosestFinger(index);
-        SquareRootFingerListNode<E> node = finger.node;
+        return getNode(index).datum;
+    }
+        
+    /**
+     * Returns the node at the given index. The search starts from the closest
+     * of the head node, the tail node, the closest finger and the access
+     * finger, and leaves the access finger at the returned node.
+     * 
+     * @param index the index of the node.
+     * @return the node at the given index.
+     */
+    private SquareRootFingerListNode<E> getNode(int index) {
+        SquareRootFingerListNode<E> node;
+        int nodeIndex;
+        
+        if (index < size - index) {
+            node = headNode;
+            nodeIndex = 0;
+        } else {
+            node = tailNode;
+            nodeIndex = size - 1;
+        }
+        
+        int position = fingerStack.findClosestFinger(index);
+        
+        if (position >= 0) {
+            int fingerIndex = fingerStack.getIndex(position);
+            
+            if (Math.abs(fingerIndex - index) < Math.abs(nodeIndex - index)) {
+                node = fingerStack.getNode(position);
+                nodeIndex = fingerIndex;
+            }
+        }
         
-        for (int i = 0; i < finger.index - index; i++, node = node.prev) {
-            finger.node = finger.node.prev;
+        if (accessFinger != null 
+                && Math.abs(accessFinger.index - index) 
+                 < Math.abs(nodeIndex - index)) {
+            node = accessFinger.node;
+            nodeIndex = accessFinger.index;
         }
         
-        for (int i = 0; i < index - finger.index; i++, node = node.next) {
-            finger.node = finger.node.next;
+        for (; nodeIndex < index; nodeIndex++) {
+            node = node.next;
         }
         
-        return node.datum;
+        for (; nodeIndex > index; nodeIndex--) {
+            node = node.prev;
+        }
+        
+        setAccessFinger(node, index);
+        return node;
+    }
+    
+    private void setAccessFinger(SquareRootFingerListNode<E> node, int index) {
+        if (accessFinger == null) {
+            accessFinger = new Finger<>(node, index);
+        } else {
+            accessFinger.node = node;
+            accessFinger.index = index;
+        }
     }
-
     
     private void checkAccessIndex(int index) {
         if (index < 0) {
@@ -330,173 +1084,1307 @@ public final class SquareRootFingerList<E>
         }
     }
     
-    @Override
+    private void checkAddIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("index(" + index + ") < 0");
+        }
+        
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "index(" + index + ") > size(" + size + ")");
+        }
+    }
+    
+    @Override
     public E set(int index, E element) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        checkAccessIndex(index);
+        SquareRootFingerListNode<E> node = getNode(index);
+        E oldElement = node.datum;
+        node.datum = element;
+        return oldElement;
     }
 
     @Override
     public void add(int index, E element) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        checkAddIndex(index);
+        
+        if (index == 0) {
+            linkFirst(element);
+        } else if (index == size) {
+            linkLast(element);
+        } else {
+            linkBefore(element, getNode(index), index);
+        }
     }
 
     @Override
     public E remove(int index) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        checkAccessIndex(index);
+        return removeNode(index, getNode(index));
     }
 
+    /**
+     * Returns the index of the first occurrence of the given element, or 
+     * {@code -1} if there is no such element. The list is scanned from the 
+     * head, and the access finger is left at the found node.
+     * 
+     * @param o the element to search for.
+     * @return the index of the first occurrence of the element.
+     */
     @Override
     public int indexOf(Object o) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        int index = 0;
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null; 
+                node = node.next, index++) {
+            if (Objects.equals(o, node.datum)) {
+                setAccessFinger(node, index);
+                return index;
+            }
+        }
+        
+        return -1;
     }
 
+    /**
+     * Returns the index of the last occurrence of the given element, or 
+     * {@code -1} if there is no such element. The list is scanned from the 
+     * tail, and the access finger is left at the found node.
+     * 
+     * @param o the element to search for.
+     * @return the index of the last occurrence of the element.
+     */
     @Override
     public int lastIndexOf(Object o) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        int index = size - 1;
+        
+        for (SquareRootFingerListNode<E> node = tailNode; 
+                node != null; 
+                node = node.prev, index--) {
+            if (Objects.equals(o, node.datum)) {
+                setAccessFinger(node, index);
+                return index;
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Works like {@link #indexOf(java.lang.Object)}, but scans the list from 
+     * both ends at once. A match found by the backward scan is remembered, 
+     * and is returned as soon as the two scans meet, unless the forward scan
+     * finds an earlier match first. This pays off when the element is likely
+     * to be near the tail of the list.
+     * 
+     * @param o the element to search for.
+     * @return the index of the first occurrence of the element.
+     */
+    public int bidirectionalIndexOf(Object o) {
+        SquareRootFingerListNode<E> forwardNode = headNode;
+        SquareRootFingerListNode<E> backwardNode = tailNode;
+        SquareRootFingerListNode<E> candidateNode = null;
+        int candidateIndex = -1;
+        
+        for (int forwardIndex = 0, backwardIndex = size - 1;
+                forwardIndex <= backwardIndex;
+                forwardIndex++, backwardIndex--) {
+            if (Objects.equals(o, forwardNode.datum)) {
+                setAccessFinger(forwardNode, forwardIndex);
+                return forwardIndex;
+            }
+            
+            if (Objects.equals(o, backwardNode.datum)) {
+                candidateNode = backwardNode;
+                candidateIndex = backwardIndex;
+            }
+            
+            forwardNode = forwardNode.next;
+            backwardNode = backwardNode.prev;
+        }
+        
+        if (candidateNode != null) {
+            setAccessFinger(candidateNode, candidateIndex);
+        }
+        
+        return candidateIndex;
+    }
+    
+    /**
+     * Works like {@link #lastIndexOf(java.lang.Object)}, but scans the list 
+     * from both ends at once. This pays off when the element is likely to be
+     * near the head of the list.
+     * 
+     * @param o the element to search for.
+     * @return the index of the last occurrence of the element.
+     */
+    public int bidirectionalLastIndexOf(Object o) {
+        SquareRootFingerListNode<E> forwardNode = headNode;
+        SquareRootFingerListNode<E> backwardNode = tailNode;
+        SquareRootFingerListNode<E> candidateNode = null;
+        int candidateIndex = -1;
+        
+        for (int forwardIndex = 0, backwardIndex = size - 1;
+                forwardIndex <= backwardIndex;
+                forwardIndex++, backwardIndex--) {
+            if (Objects.equals(o, backwardNode.datum)) {
+                setAccessFinger(backwardNode, backwardIndex);
+                return backwardIndex;
+            }
+            
+            if (Objects.equals(o, forwardNode.datum)) {
+                candidateNode = forwardNode;
+                candidateIndex = forwardIndex;
+            }
+            
+            forwardNode = forwardNode.next;
+            backwardNode = backwardNode.prev;
+        }
+        
+        if (candidateNode != null) {
+            setAccessFinger(candidateNode, candidateIndex);
+        }
+        
+        return candidateIndex;
+    }
+    
+    /**
+     * Works like {@link #indexOf(java.lang.Object)}, but searches the 
+     * segments between consecutive fingers concurrently, and returns the 
+     * minimal matching index. A segment stops its scan as soon as it passes 
+     * the best match found so far. Small lists are searched sequentially.
+     * 
+     * @param o the element to search for.
+     * @return the index of the first occurrence of the element.
+     */
+    public int parallelIndexOf(Object o) {
+        if (size < PARALLEL_SEARCH_THRESHOLD) {
+            return indexOf(o);
+        }
+        
+        return parallelSearch(o, true);
+    }
+    
+    /**
+     * Works like {@link #lastIndexOf(java.lang.Object)}, but searches the 
+     * segments between consecutive fingers concurrently, and returns the 
+     * maximal matching index. Small lists are searched sequentially.
+     * 
+     * @param o the element to search for.
+     * @return the index of the last occurrence of the element.
+     */
+    public int parallelLastIndexOf(Object o) {
+        if (size < PARALLEL_SEARCH_THRESHOLD) {
+            return lastIndexOf(o);
+        }
+        
+        return parallelSearch(o, false);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int parallelSearch(Object o, boolean searchFirst) {
+        int expectedModificationCount = modificationCount;
+        
+        // Segment 0 runs from the head node to the first finger, and the 
+        // segment i > 0 runs from the finger i - 1 to the finger i or to the 
+        // end of the list:
+        int numberOfSegments = fingerStack.size() + 1;
+        SquareRootFingerListNode<E>[] segmentNodes = 
+                new SquareRootFingerListNode[numberOfSegments + 1];
+        
+        int[] segmentIndices = new int[numberOfSegments + 1];
+        segmentNodes[0] = headNode;
+        
+        for (int i = 0; i < fingerStack.size(); i++) {
+            segmentNodes[i + 1] = fingerStack.getNode(i);
+            segmentIndices[i + 1] = fingerStack.getIndex(i);
+        }
+        
+        segmentIndices[numberOfSegments] = size;
+        
+        AtomicInteger bestIndex = 
+                new AtomicInteger(searchFirst ? Integer.MAX_VALUE : -1);
+        
+        IntStream.range(0, numberOfSegments).parallel().forEach(segment -> {
+            if (searchFirst) {
+                SquareRootFingerListNode<E> node = segmentNodes[segment];
+                
+                for (int index = segmentIndices[segment]; 
+                        index < segmentIndices[segment + 1] 
+                        && index < bestIndex.get(); 
+                        index++, node = node.next) {
+                    if (Objects.equals(o, node.datum)) {
+                        bestIndex.accumulateAndGet(index, Math::min);
+                        return;
+                    }
+                }
+            } else {
+                SquareRootFingerListNode<E> node = 
+                        segmentNodes[segment + 1] == null ? 
+                        tailNode : 
+                        segmentNodes[segment + 1].prev;
+                
+                for (int index = segmentIndices[segment + 1] - 1; 
+                        index >= segmentIndices[segment] 
+                        && index > bestIndex.get(); 
+                        index--, node = node.prev) {
+                    if (Objects.equals(o, node.datum)) {
+                        bestIndex.accumulateAndGet(index, Math::max);
+                        return;
+                    }
+                }
+            }
+        });
+        
+        if (modificationCount != expectedModificationCount) {
+            throw new ConcurrentModificationException();
+        }
+        
+        int index = bestIndex.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
     }
 
     @Override
     public ListIterator<E> listIterator() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return listIterator(0);
     }
 
+    /**
+     * Returns a fail-fast list iterator starting at the given index. The 
+     * starting node is located via the closest finger. The iterator adds,
+     * removes and sets the elements at its cursor without searching for the
+     * nodes, and leaves the access finger at the most recently returned node,
+     * so that a positional access near the position where the iteration ended
+     * is fast.
+     * 
+     * @param index the index of the first element returned by
+     *              {@link ListIterator#next()}.
+     * @return the list iterator.
+     */
     @Override
     public ListIterator<E> listIterator(int index) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        checkAddIndex(index);
+        return new SquareRootFingerListIterator(index);
     }
 
+    /**
+     * Returns a view of the range {@code fromIndex}, inclusive, through 
+     * {@code toIndex}, exclusive. The view remembers the nodes just outside
+     * of its range, and starts its traversals from them whenever they are 
+     * closer than the fingers of this list. All structural changes made via 
+     * the view update the fingers of this list, and clearing or sorting the 
+     * view runs in time linear in the length of the view. Structural changes
+     * made to this list bypassing the view invalidate the view.
+     * 
+     * @param fromIndex the starting index of the view, inclusive.
+     * @param toIndex   the ending index of the view, exclusive.
+     * @return the sublist view.
+     */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        checkSubListRange(fromIndex, toIndex, size);
+        
+        return new SubList(
+                null,
+                fromIndex,
+                toIndex - fromIndex,
+                fromIndex == 0 ? null : getNode(fromIndex - 1),
+                toIndex == size ? null : getNode(toIndex));
+    }
+    
+    private static void checkSubListRange(int fromIndex, 
+                                          int toIndex, 
+                                          int size) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex(" + fromIndex + ") < 0");
+        }
+        
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException(
+                    "toIndex(" + toIndex + ") > size(" + size + ")");
+        }
+        
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException(
+                    "fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
     }
 
     @Override
     public void addFirst(E e) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        linkFirst(e);
     }
 
     @Override
     public void addLast(E e) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        linkLast(e);
     }
 
     @Override
     public boolean offerFirst(E e) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        addFirst(e);
+        return true;
     }
 
     @Override
     public boolean offerLast(E e) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        addLast(e);
+        return true;
     }
 
     @Override
     public E removeFirst() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        if (size == 0) {
+            throw new NoSuchElementException("removeFirst() on empty list.");
+        }
+        
+        return removeNode(0, headNode);
     }
 
     @Override
     public E removeLast() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        if (size == 0) {
+            throw new NoSuchElementException("removeLast() on empty list.");
+        }
+        
+        return removeNode(size - 1, tailNode);
     }
 
     @Override
     public E pollFirst() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return size == 0 ? null : removeNode(0, headNode);
     }
 
     @Override
     public E pollLast() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return size == 0 ? null : removeNode(size - 1, tailNode);
     }
 
     @Override
     public E getFirst() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        if (size == 0) {
+            throw new NoSuchElementException("getFirst() on empty list.");
+        }
+        
+        return headNode.datum;
     }
 
     @Override
     public E getLast() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        if (size == 0) {
+            throw new NoSuchElementException("getLast() on empty list.");
+        }
+        
+        return tailNode.datum;
     }
 
     @Override
     public E peekFirst() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return size == 0 ? null : headNode.datum;
     }
 
     @Override
     public E peekLast() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return size == 0 ? null : tailNode.datum;
     }
 
     @Override
     public boolean removeFirstOccurrence(Object o) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return remove(o);
     }
 
     @Override
     public boolean removeLastOccurrence(Object o) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        int index = bidirectionalLastIndexOf(o);
+        
+        if (index == -1) {
+            return false;
+        }
+        
+        // The search left the access finger at the target node:
+        removeNode(index, getNode(index));
+        return true;
     }
 
     @Override
     public boolean offer(E e) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return offerLast(e);
     }
 
     @Override
     public E remove() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return removeFirst();
     }
 
     @Override
     public E poll() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return pollFirst();
     }
 
     @Override
     public E element() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return getFirst();
     }
 
     @Override
     public E peek() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return peekFirst();
     }
 
     @Override
     public void push(E e) {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        addFirst(e);
     }
 
     @Override
     public E pop() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        return removeFirst();
     }
 
+    /**
+     * Returns a fail-fast iterator walking this list from the tail to the 
+     * head over the {@code prev} links. The iterator supports removal.
+     * 
+     * @return a descending iterator.
+     */
     @Override
     public Iterator<E> descendingIterator() {
-        throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
+        ListIterator<E> listIterator = listIterator(size);
+        
+        return new Iterator<E>() {
+            
+            @Override
+            public boolean hasNext() {
+                return listIterator.hasPrevious();
+            }
+            
+            @Override
+            public E next() {
+                return listIterator.previous();
+            }
+            
+            @Override
+            public void remove() {
+                listIterator.remove();
+            }
+        };
     }
     
-    private void addToEmptyList(E e) {
-        headNode = tailNode = new SquareRootFingerListNode<>(e);
+    /**
+     * Returns a spliterator traversing this list from the tail to the head. 
+     * The spliterator splits at the finger boundaries, which makes parallel
+     * streams over the reversed list efficient:
+     * <pre>
+     *     StreamSupport.stream(list.descendingSpliterator(), true)
+     * </pre>
+     * The list must not be modified while the spliterator is in use.
+     * 
+     * @return a descending spliterator.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Spliterator<E> descendingSpliterator() {
+        int numberOfFingers = fingerStack.size();
+        SquareRootFingerListNode<E>[] fingerNodes = 
+                new SquareRootFingerListNode[numberOfFingers];
+        
+        int[] fingerIndices = new int[numberOfFingers];
+        int lowFinger = 0;
+        
+        for (int i = 0; i < numberOfFingers; i++) {
+            fingerNodes[i] = fingerStack.getNode(i);
+            fingerIndices[i] = fingerStack.getIndex(i);
+            
+            if (fingerIndices[i] == 0) {
+                // Splitting at the head node leaves nothing to the suffix:
+                lowFinger = i + 1;
+            }
+        }
+        
+        return new DescendingSegmentSpliterator<>(this,
+                                                  fingerNodes,
+                                                  fingerIndices,
+                                                  tailNode,
+                                                  size - 1,
+                                                  0,
+                                                  lowFinger,
+                                                  numberOfFingers);
     }
     
-    private void appendToList(E e) {
+    private void linkFirst(E e) {
         SquareRootFingerListNode<E> newNode = new SquareRootFingerListNode<>(e);
-        tailNode.next = newNode;
-        newNode.prev = tailNode;
-        tailNode = newNode;
+        
+        if (size == 0) {
+            headNode = tailNode = newNode;
+        } else {
+            newNode.next = headNode;
+            headNode.prev = newNode;
+            headNode = newNode;
+        }
+        
+        size++;
+        modificationCount++;
+        fixFingersAfterAddition(0);
+    }
+    
+    private void linkLast(E e) {
+        SquareRootFingerListNode<E> newNode = new SquareRootFingerListNode<>(e);
+        
+        if (size == 0) {
+            headNode = tailNode = newNode;
+        } else {
+            tailNode.next = newNode;
+            newNode.prev = tailNode;
+            tailNode = newNode;
+        }
+        
+        size++;
+        modificationCount++;
+        fixFingersAfterAddition(size - 1);
+    }
+
+    /**
+     * Links the element before the given node at the given index, or appends
+     * it if the node is {@code null}.
+     * 
+     * @param e     the element to link.
+     * @param node  the node before which to link, or {@code null}.
+     * @param index the index of the new node.
+     */
+    private void linkBeforeNode(E e, 
+                                SquareRootFingerListNode<E> node, 
+                                int index) {
+        if (node == null) {
+            linkLast(e);
+        } else if (node == headNode) {
+            linkFirst(e);
+        } else {
+            linkBefore(e, node, index);
+        }
     }
 
-    private void fixFingerArrayAfterAddition() {
-        int optimalNumberOfFingers = (int) Math.sqrt(size);
+    private void linkBefore(E e, 
+                            SquareRootFingerListNode<E> node, 
+                            int index) {
+        SquareRootFingerListNode<E> newNode = new SquareRootFingerListNode<>(e);
+        newNode.prev = node.prev;
+        newNode.next = node;
+        node.prev.next = newNode;
+        node.prev = newNode;
+        size++;
+        modificationCount++;
+        fixFingersAfterAddition(index);
+    }
+    
+    private final class SquareRootFingerListIterator implements ListIterator<E> {
+        
+        private SquareRootFingerListNode<E> lastReturned;
+        private SquareRootFingerListNode<E> next;
+        private int nextIndex;
+        private int expectedModificationCount = modificationCount;
+        
+        SquareRootFingerListIterator(int index) {
+            next = index == size ? null : getNode(index);
+            nextIndex = index;
+        }
         
-        while (fingerStack.size < optimalNumberOfFingers) {
-            Finger<E> finger = new Finger<>(tailNode, size - 1);
-            fingerStack.pushFinger(finger);
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
         }
+        
+        @Override
+        public E next() {
+            checkForComodification();
+            
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            
+            lastReturned = next;
+            next = next.next;
+            setAccessFinger(lastReturned, nextIndex++);
+            return lastReturned.datum;
+        }
+        
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+        
+        @Override
+        public E previous() {
+            checkForComodification();
+            
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            
+            lastReturned = next = (next == null) ? tailNode : next.prev;
+            setAccessFinger(lastReturned, --nextIndex);
+            return lastReturned.datum;
+        }
+        
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+        
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+        
+        @Override
+        public void remove() {
+            checkForComodification();
+            
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            
+            SquareRootFingerListNode<E> lastNext = lastReturned.next;
+            
+            if (lastReturned == next) {
+                // The last call was previous():
+                removeNode(nextIndex, lastReturned);
+                next = lastNext;
+            } else {
+                removeNode(--nextIndex, lastReturned);
+            }
+            
+            lastReturned = null;
+            expectedModificationCount = modificationCount;
+        }
+        
+        @Override
+        public void set(E e) {
+            checkForComodification();
+            
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            
+            lastReturned.datum = e;
+        }
+        
+        @Override
+        public void add(E e) {
+            checkForComodification();
+            linkBeforeNode(e, next, nextIndex);
+            nextIndex++;
+            lastReturned = null;
+            expectedModificationCount = modificationCount;
+        }
+        
+        private void checkForComodification() {
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * This static inner class implements a spliterator that hands out 
+     * finger-delimited segments of the list in descending order. Each 
+     * spliterator covers the index range {@code [fence, index]}, traverses it
+     * from {@code index} down to {@code fence}, and knows the fingers 
+     * {@code lowFinger, ..., highFinger - 1} whose indices lie in 
+     * {@code (fence, index]}. Splitting at a finger gives the part above and 
+     * including the finger to the prefix.
+     * 
+     * @param <E> the element type.
+     */
+    private static final class DescendingSegmentSpliterator<E> 
+            implements Spliterator<E> {
+        
+        private final SquareRootFingerList<E> list;
+        private final SquareRootFingerListNode<E>[] fingerNodes;
+        private final int[] fingerIndices;
+        private final int fence;
+        private final int expectedModificationCount;
+        private SquareRootFingerListNode<E> node;
+        private int index;
+        private int lowFinger;
+        private int highFinger;
+        
+        DescendingSegmentSpliterator(SquareRootFingerList<E> list,
+                                     SquareRootFingerListNode<E>[] fingerNodes,
+                                     int[] fingerIndices,
+                                     SquareRootFingerListNode<E> node,
+                                     int index,
+                                     int fence,
+                                     int lowFinger,
+                                     int highFinger) {
+            this.list = list;
+            this.fingerNodes = fingerNodes;
+            this.fingerIndices = fingerIndices;
+            this.node = node;
+            this.index = index;
+            this.fence = fence;
+            this.lowFinger = lowFinger;
+            this.highFinger = highFinger;
+            this.expectedModificationCount = list.modificationCount;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            
+            if (index < fence) {
+                return false;
+            }
+            
+            checkForComodification();
+            E element = node.datum;
+            node = node.prev;
+            index--;
+            
+            while (lowFinger < highFinger 
+                    && fingerIndices[highFinger - 1] > index) {
+                highFinger--;
+            }
+            
+            action.accept(element);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            checkForComodification();
+            
+            for (; index >= fence; index--) {
+                action.accept(node.datum);
+                node = node.prev;
+            }
+            
+            highFinger = lowFinger;
+            checkForComodification();
+        }
+        
+        @Override
+        public Spliterator<E> trySplit() {
+            if (lowFinger >= highFinger) {
+                return null;
+            }
+            
+            int middleFinger = (lowFinger + highFinger) >>> 1;
+            int middleIndex = fingerIndices[middleFinger];
+            
+            DescendingSegmentSpliterator<E> prefix = 
+                    new DescendingSegmentSpliterator<>(list,
+                                                       fingerNodes,
+                                                       fingerIndices,
+                                                       node,
+                                                       index,
+                                                       middleIndex,
+                                                       middleFinger + 1,
+                                                       highFinger);
+            
+            node = fingerNodes[middleFinger].prev;
+            index = middleIndex - 1;
+            highFinger = middleFinger;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return index - fence + 1;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED |
+                   Spliterator.SIZED |
+                   Spliterator.SUBSIZED;
+        }
+        
+        private void checkForComodification() {
+            if (list.modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * This inner class implements the sublist views. The view stores the 
+     * nodes immediately preceding and following its range, both of which are
+     * {@code null} at the ends of the list. Since the operations of a view
+     * never touch those two nodes, the views nested in each other stay valid
+     * after a structural change via the innermost view, and only need their 
+     * sizes updated.
+     */
+    private final class SubList extends AbstractList<E> {
+        
+        private final SubList parent;
+        private final int offset;
+        private final SquareRootFingerListNode<E> beforeNode;
+        private final SquareRootFingerListNode<E> afterNode;
+        private int size;
+        private int expectedModificationCount = modificationCount;
+        
+        SubList(SubList parent,
+                int offset,
+                int size,
+                SquareRootFingerListNode<E> beforeNode,
+                SquareRootFingerListNode<E> afterNode) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.beforeNode = beforeNode;
+            this.afterNode = afterNode;
+        }
+        
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+        
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            checkSubListAccessIndex(index);
+            return getSubListNode(index).datum;
+        }
+        
+        @Override
+        public E set(int index, E element) {
+            checkForComodification();
+            checkSubListAccessIndex(index);
+            SquareRootFingerListNode<E> node = getSubListNode(index);
+            E oldElement = node.datum;
+            node.datum = element;
+            return oldElement;
+        }
+        
+        @Override
+        public void add(int index, E element) {
+            checkForComodification();
+            
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(
+                        "index(" + index + "), size(" + size + ")");
+            }
+            
+            linkBeforeNode(element, 
+                           index == size ? afterNode : getSubListNode(index), 
+                           offset + index);
+            
+            updateSizeAndModificationCount(1);
+        }
+        
+        @Override
+        public E remove(int index) {
+            checkForComodification();
+            checkSubListAccessIndex(index);
+            E datum = removeNode(offset + index, getSubListNode(index));
+            updateSizeAndModificationCount(-1);
+            return datum;
+        }
+        
+        @Override
+        public void clear() {
+            checkForComodification();
+            
+            if (size > 0) {
+                unlinkRange(offset, 
+                            offset + size, 
+                            getFirstNode(), 
+                            getLastNode());
+                
+                updateSizeAndModificationCount(-size);
+            }
+        }
+        
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            
+            if (fromIndex < toIndex) {
+                unlinkRange(offset + fromIndex, 
+                            offset + toIndex, 
+                            getSubListNode(fromIndex),
+                            getSubListNode(toIndex - 1));
+                
+                updateSizeAndModificationCount(fromIndex - toIndex);
+            }
+        }
+        
+        /**
+         * Sorts the view by copying its elements to an array, sorting the 
+         * array, and writing the elements back in a single pass over the 
+         * view.
+         * 
+         * @param c the comparator, or {@code null} for the natural ordering.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<? super E> c) {
+            checkForComodification();
+            Object[] array = new Object[size];
+            SquareRootFingerListNode<E> node = getFirstNode();
+            
+            for (int i = 0; i < size; i++, node = node.next) {
+                array[i] = node.datum;
+            }
+            
+            Arrays.sort((E[]) array, c);
+            node = getFirstNode();
+            
+            for (int i = 0; i < size; i++, node = node.next) {
+                node.datum = (E) array[i];
+            }
+        }
+        
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+        
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(
+                        "index(" + index + "), size(" + size + ")");
+            }
+            
+            return new SubListIterator(index);
+        }
+        
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkSubListRange(fromIndex, toIndex, size);
+            
+            return new SubList(
+                    this,
+                    offset + fromIndex,
+                    toIndex - fromIndex,
+                    fromIndex == 0 ? beforeNode : getSubListNode(fromIndex - 1),
+                    toIndex == size ? afterNode : getSubListNode(toIndex));
+        }
+        
+        private SquareRootFingerListNode<E> getFirstNode() {
+            return beforeNode == null ? headNode : beforeNode.next;
+        }
+        
+        private SquareRootFingerListNode<E> getLastNode() {
+            return afterNode == null ? tailNode : afterNode.prev;
+        }
+        
+        /**
+         * Returns the node at the given index of this view. If the node is 
+         * within the finger stride from a boundary of the view, the search 
+         * starts from that boundary. Otherwise, the search is delegated to 
+         * the enclosing list.
+         * 
+         * @param index the index of the node relative to this view.
+         * @return the node at the given index.
+         */
+        private SquareRootFingerListNode<E> getSubListNode(int index) {
+            int distanceFromEnd = size - 1 - index;
+            
+            if (Math.min(index, distanceFromEnd) > getFingerStride()) {
+                return getNode(offset + index);
+            }
+            
+            SquareRootFingerListNode<E> node;
+            
+            if (index <= distanceFromEnd) {
+                node = getFirstNode();
+                
+                for (int i = 0; i < index; i++) {
+                    node = node.next;
+                }
+            } else {
+                node = getLastNode();
+                
+                for (int i = 0; i < distanceFromEnd; i++) {
+                    node = node.prev;
+                }
+            }
+            
+            return node;
+        }
+        
+        private void updateSizeAndModificationCount(int sizeDelta) {
+            for (SubList subList = this; 
+                    subList != null; 
+                    subList = subList.parent) {
+                subList.size += sizeDelta;
+                subList.expectedModificationCount = modificationCount;
+            }
+        }
+        
+        private void checkSubListAccessIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(
+                        "index(" + index + "), size(" + size + ")");
+            }
+        }
+        
+        private void checkForComodification() {
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        
+        private final class SubListIterator implements ListIterator<E> {
+            
+            private SquareRootFingerListNode<E> lastReturned;
+            private SquareRootFingerListNode<E> next;
+            private int nextIndex;
+            private int expectedModificationCount = modificationCount;
+            
+            SubListIterator(int index) {
+                next = index == size ? afterNode : getSubListNode(index);
+                nextIndex = index;
+            }
+            
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+            
+            @Override
+            public E next() {
+                checkForComodification();
+                
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                
+                lastReturned = next;
+                next = next.next;
+                setAccessFinger(lastReturned, offset + nextIndex++);
+                return lastReturned.datum;
+            }
+            
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+            
+            @Override
+            public E previous() {
+                checkForComodification();
+                
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                
+                lastReturned = next = (next == null) ? tailNode : next.prev;
+                setAccessFinger(lastReturned, offset + --nextIndex);
+                return lastReturned.datum;
+            }
+            
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+            
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+            
+            @Override
+            public void remove() {
+                checkForComodification();
+                
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                
+                SquareRootFingerListNode<E> lastNext = lastReturned.next;
+                
+                if (lastReturned == next) {
+                    // The last call was previous():
+                    removeNode(offset + nextIndex, lastReturned);
+                    next = lastNext;
+                } else {
+                    removeNode(offset + --nextIndex, lastReturned);
+                }
+                
+                updateSizeAndModificationCount(-1);
+                lastReturned = null;
+                expectedModificationCount = modificationCount;
+            }
+            
+            @Override
+            public void set(E e) {
+                checkForComodification();
+                
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+                
+                lastReturned.datum = e;
+            }
+            
+            @Override
+            public void add(E e) {
+                checkForComodification();
+                linkBeforeNode(e, next, offset + nextIndex);
+                updateSizeAndModificationCount(1);
+                nextIndex++;
+                lastReturned = null;
+                expectedModificationCount = modificationCount;
+            }
+            
+            private void checkForComodification() {
+                if (modificationCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns a shallow copy of this list. The node chain is copied in a 
+     * single pass, which places the fingers of the copy evenly along the way.
+     * 
+     * @return a shallow copy of this list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public SquareRootFingerList<E> clone() {
+        SquareRootFingerList<E> clone;
+        
+        try {
+            clone = (SquareRootFingerList<E>) super.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new InternalError(ex);
+        }
+        
+        clone.fingerStack = new FingerStack<>();
+        clone.headNode = null;
+        clone.tailNode = null;
+        clone.accessFinger = null;
+        clone.size = 0;
+        clone.modificationCount = 0;
+        
+        int fingerStride = getFingerStride();
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null; 
+                node = node.next) {
+            clone.appendNode(node.datum, fingerStride);
+        }
+        
+        return clone;
+    }
+    
+    /**
+     * Saves the state of this list to a stream.
+     * 
+     * @serialData the size of the list, followed by all of its elements in 
+     *             proper order.
+     * @param s the output stream.
+     * @throws java.io.IOException if an I/O error occurs.
+     */
+    private void writeObject(java.io.ObjectOutputStream s) 
+            throws java.io.IOException {
+        s.defaultWriteObject();
+        s.writeInt(size);
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null; 
+                node = node.next) {
+            s.writeObject(node.datum);
+        }
+    }
+    
+    /**
+     * Reconstitutes this list from a stream. The nodes and the evenly spaced
+     * fingers are built in a single pass.
+     * 
+     * @param s the input stream.
+     * @throws java.io.IOException    if an I/O error occurs.
+     * @throws ClassNotFoundException if the class of an element cannot be
+     *                                found.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(java.io.ObjectInputStream s) 
+            throws java.io.IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int serializedSize = s.readInt();
+        
+        if (serializedSize < 0) {
+            throw new java.io.InvalidObjectException(
+                    "Negative size: " + serializedSize);
+        }
+        
+        fingerStack = new FingerStack<>();
+        int fingerStride = getFingerStride(serializedSize);
+        
+        for (int i = 0; i < serializedSize; i++) {
+            appendNode((E) s.readObject(), fingerStride);
+        }
+    }
+    
+    boolean hasCorrectState() {
+        if (size == 0) {
+            return headNode == null 
+                    && tailNode == null 
+                    && fingerStack.size() == 0;
+        }
+        
+        if (fingerStack.size() > 2 * getOptimalNumberOfFingers() + 2) {
+            return false;
+        }
+        
+        // The head node, the fingers and the tail node delimit the gaps:
+        int maximumGap = 4 * getFingerStride() + 4;
+        int previousIndex = 0;
+        
+        for (int i = 0; i < fingerStack.size(); i++) {
+            int fingerIndex = fingerStack.getIndex(i);
+            
+            if (fingerIndex - previousIndex > maximumGap) {
+                return false;
+            }
+            
+            previousIndex = fingerIndex;
+        }
+        
+        if (size - 1 - previousIndex > maximumGap) {
+            return false;
+        }
+        
+        int position = 0;
+        int index = 0;
+        
+        for (SquareRootFingerListNode<E> node = headNode; 
+                node != null; 
+                node = node.next, index++) {
+            if (node.next == null && node != tailNode) {
+                return false;
+            }
+            
+            while (position < fingerStack.size() 
+                    && fingerStack.getIndex(position) == index) {
+                if (fingerStack.getNode(position) != node) {
+                    return false;
+                }
+                
+                position++;
+            }
+            
+            if (accessFinger != null 
+                    && accessFinger.index == index 
+                    && accessFinger.node != node) {
+                return false;
+            }
+        }
+        
+        return index == size 
+                && position == fingerStack.size() 
+                && (accessFinger == null || accessFinger.index < size);
     }
 }
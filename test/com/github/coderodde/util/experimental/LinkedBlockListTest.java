@@ -0,0 +1,448 @@
+package com.github.coderodde.util.experimental;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class LinkedBlockListTest {
+
+    @Test
+    public void bruteForceTest() {
+        bruteForceTest(new LinkedBlockList<>(4));
+    }
+
+    @Test
+    public void bruteForceTestDefaultBlockCapacity() {
+        bruteForceTest(new LinkedBlockList<>());
+    }
+
+    @Test
+    public void bruteForceTestNoMerging() {
+        bruteForceTest(new LinkedBlockList<>(8, 0.0f));
+    }
+
+    @Test
+    public void bruteForceTestHalfFullBlocks() {
+        bruteForceTest(new LinkedBlockList<>(8, 0.5f));
+    }
+
+    @Test
+    public void bruteForceTestAdaptiveBlockCapacity() {
+        bruteForceTest(new LinkedBlockList<>(4, 64, 0.25f));
+    }
+
+    @Test
+    public void testAdaptiveBlockCapacityFollowsSize() {
+        LinkedBlockList<Integer> blockList = 
+                new LinkedBlockList<>(4, 1024, 0.25f);
+
+        for (int i = 0; i < 100_000; i++) {
+            blockList.add(i / 2, i);
+        }
+
+        assertTrue(blockList.hasCorrectState());
+        assertTrue(blockList.getNumberOfBlocks() <= 100_000 / 64);
+
+        for (int i = 0; i < 99_900; i++) {
+            blockList.remove(blockList.size() / 2);
+        }
+
+        assertTrue(blockList.hasCorrectState());
+        assertTrue(blockList.getDensityFactor() >= 0.25f);
+    }
+
+    @Test
+    public void testDensityAfterAppendingAndPrepending() {
+        LinkedBlockList<Integer> appendedList = new LinkedBlockList<>(64);
+        LinkedBlockList<Integer> prependedList = new LinkedBlockList<>(64);
+
+        for (int i = 0; i < 100_000; i++) {
+            appendedList.add(i);
+            prependedList.addFirst(i);
+        }
+
+        assertTrue(appendedList.hasCorrectState());
+        assertTrue(prependedList.hasCorrectState());
+        assertEquals(100_000 / 64 + 1, appendedList.getNumberOfBlocks());
+        assertEquals(100_000 / 64 + 1, prependedList.getNumberOfBlocks());
+        assertTrue(appendedList.getDensityFactor() >= 0.99f);
+        assertTrue(prependedList.getDensityFactor() >= 0.99f);
+    }
+
+    @Test
+    public void testDensityAfterChurn() {
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(16, 0.5f);
+        Random random = new Random(11L);
+
+        assertEquals(1.0f, blockList.getDensityFactor(), 0.0f);
+
+        for (int i = 0; i < 10_000; i++) {
+            blockList.add(random.nextInt(blockList.size() + 1), i);
+        }
+
+        for (int i = 0; i < 9_000; i++) {
+            blockList.remove(random.nextInt(blockList.size()));
+        }
+
+        assertTrue(blockList.hasCorrectState());
+        assertTrue(blockList.getDensityFactor() >= 0.5f);
+        assertTrue(blockList.getNumberOfBlocks() <= 1000 / 8);
+    }
+
+    @Test
+    public void bruteForceTestListIterator() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        System.out.println("Seed = " + seed);
+
+        List<Integer> javaList = new ArrayList<>();
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(4, 0.5f);
+
+        for (int i = 0; i < 300; i++) {
+            javaList.add(i);
+            blockList.add(i);
+        }
+
+        for (int round = 0; round < 50; round++) {
+            int startIndex = random.nextInt(javaList.size() + 1);
+            ListIterator<Integer> javaIterator = 
+                    javaList.listIterator(startIndex);
+            ListIterator<Integer> blockIterator = 
+                    blockList.listIterator(startIndex);
+
+            for (int operation = 0; operation < 200; operation++) {
+                boolean lastMoved = false;
+
+                switch (random.nextInt(5)) {
+                    case 0:
+                        if (javaIterator.hasNext()) {
+                            assertEquals(javaIterator.next(), 
+                                         blockIterator.next());
+                            lastMoved = true;
+                        }
+
+                        break;
+
+                    case 1:
+                        if (javaIterator.hasPrevious()) {
+                            assertEquals(javaIterator.previous(), 
+                                         blockIterator.previous());
+                            lastMoved = true;
+                        }
+
+                        break;
+
+                    case 2:
+                        Integer integer = random.nextInt(1000);
+                        javaIterator.add(integer);
+                        blockIterator.add(integer);
+                        break;
+
+                    case 3:
+                        if (javaIterator.hasNext()) {
+                            javaIterator.next();
+                            blockIterator.next();
+                            javaIterator.remove();
+                            blockIterator.remove();
+                        }
+
+                        break;
+
+                    case 4:
+                        if (javaIterator.hasPrevious()) {
+                            javaIterator.previous();
+                            blockIterator.previous();
+                            javaIterator.set(-operation);
+                            blockIterator.set(-operation);
+                        }
+
+                        break;
+                }
+
+                assertEquals(javaIterator.nextIndex(), 
+                             blockIterator.nextIndex());
+                assertEquals(javaIterator.hasNext(), blockIterator.hasNext());
+                assertTrue(blockList.hasCorrectState());
+            }
+
+            assertEquals(javaList, blockList);
+        }
+    }
+
+    @Test
+    public void testDequeOperations() {
+        Deque<Integer> javaDeque = new ArrayDeque<>();
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(4);
+
+        assertNull(blockList.peekFirst());
+        assertNull(blockList.pollLast());
+
+        for (int i = 0; i < 100; i++) {
+            javaDeque.addFirst(i);
+            blockList.addFirst(i);
+            javaDeque.offerLast(-i);
+            blockList.offerLast(-i);
+        }
+
+        assertEquals(javaDeque.getFirst(), blockList.getFirst());
+        assertEquals(javaDeque.getLast(), blockList.getLast());
+        assertTrue(blockList.removeLastOccurrence(50));
+        assertTrue(javaDeque.removeLastOccurrence(50));
+        assertFalse(blockList.removeFirstOccurrence(1000));
+
+        Iterator<Integer> javaIterator = javaDeque.descendingIterator();
+        Iterator<Integer> blockIterator = blockList.descendingIterator();
+
+        while (javaIterator.hasNext()) {
+            assertEquals(javaIterator.next(), blockIterator.next());
+        }
+
+        assertFalse(blockIterator.hasNext());
+
+        while (!javaDeque.isEmpty()) {
+            assertEquals(javaDeque.pop(), blockList.pop());
+            assertEquals(javaDeque.pollLast(), blockList.pollLast());
+        }
+
+        assertTrue(blockList.isEmpty());
+        assertTrue(blockList.hasCorrectState());
+    }
+
+    @Test
+    public void testClear() {
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(4);
+
+        for (int i = 0; i < 100; i++) {
+            blockList.add(i);
+        }
+
+        blockList.clear();
+        assertTrue(blockList.isEmpty());
+        assertEquals(0, blockList.getNumberOfBlocks());
+        assertTrue(blockList.hasCorrectState());
+
+        blockList.add(1);
+        blockList.add(0, 0);
+        assertEquals(Arrays.asList(0, 1), blockList);
+        assertTrue(blockList.hasCorrectState());
+    }
+
+    @Test
+    public void testSpliterator() {
+        List<Integer> javaList = new ArrayList<>();
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(8);
+        Random random = new Random(13L);
+
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(javaList.size() + 1);
+            javaList.add(index, i);
+            blockList.add(index, i);
+        }
+
+        assertEquals(javaList,
+                     StreamSupport.stream(blockList.spliterator(), true)
+                                  .collect(Collectors.toList()));
+
+        assertEquals(javaList.stream().mapToLong(Integer::longValue).sum(),
+                     blockList.parallelStream()
+                              .mapToLong(Integer::longValue)
+                              .sum());
+
+        Spliterator<Integer> suffix = blockList.spliterator();
+        assertTrue(suffix.tryAdvance(integer -> {}));
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(9_999, prefix.estimateSize() + suffix.estimateSize());
+        assertTrue(prefix.estimateSize() > 2_500);
+        assertTrue(suffix.estimateSize() > 2_500);
+
+        List<Integer> traversed = new ArrayList<>();
+        traversed.add(javaList.get(0));
+        prefix.forEachRemaining(traversed::add);
+        suffix.forEachRemaining(traversed::add);
+        assertEquals(javaList, traversed);
+    }
+
+    @Test
+    public void testBulkConstructionAndAddAll() {
+        List<Integer> javaList = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            javaList.add(i);
+        }
+
+        LinkedBlockList<Integer> blockList = 
+                new LinkedBlockList<>(javaList, 1.0f);
+
+        assertTrue(blockList.hasCorrectState());
+        assertEquals(javaList, blockList);
+        assertTrue(blockList.getDensityFactor() >= 0.99f);
+
+        blockList.addAll(5_000, javaList);
+        javaList.addAll(5_000, new ArrayList<>(javaList));
+        assertTrue(blockList.hasCorrectState());
+        assertEquals(javaList, blockList);
+        assertTrue(blockList.getDensityFactor() >= 0.85f);
+
+        LinkedBlockList<Integer> adaptiveBlockList = 
+                new LinkedBlockList<>(4, 1024, 0.25f);
+
+        adaptiveBlockList.addAll(javaList);
+        adaptiveBlockList.addAll(0, adaptiveBlockList);
+        javaList.addAll(0, new ArrayList<>(javaList));
+        assertTrue(adaptiveBlockList.hasCorrectState());
+        assertEquals(javaList, adaptiveBlockList);
+    }
+
+    @Test
+    public void testRandomAdditionsAfterBulkLoading() {
+        List<Integer> javaList = new ArrayList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            javaList.add(i);
+        }
+
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(javaList);
+        float densityFactor = blockList.getDensityFactor();
+        int numberOfBlocks = blockList.getNumberOfBlocks();
+        assertTrue(densityFactor >= 0.85f && densityFactor <= 0.9f);
+        Random random = new Random(17L);
+
+        // The free slots absorb a light load of random additions without 
+        // splitting any block:
+        for (int i = 0; i < 1_000; i++) {
+            int index = random.nextInt(javaList.size() + 1);
+            javaList.add(index, -i);
+            blockList.add(index, -i);
+        }
+
+        assertEquals(numberOfBlocks, blockList.getNumberOfBlocks());
+
+        for (int i = 0; i < 100_000; i++) {
+            int index = random.nextInt(javaList.size() + 1);
+            javaList.add(index, i);
+            blockList.add(index, i);
+        }
+
+        assertTrue(blockList.hasCorrectState());
+        assertEquals(javaList, blockList);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddAllThrowsOnZeroFillRatio() {
+        new LinkedBlockList<>(Arrays.asList(1, 2, 3), 0.0f);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorIsFailFast() {
+        LinkedBlockList<Integer> blockList = new LinkedBlockList<>(4);
+
+        for (int i = 0; i < 10; i++) {
+            blockList.add(i);
+        }
+
+        for (Integer integer : blockList) {
+            if (integer == 5) {
+                blockList.remove(0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrowsOnTooLargeFillRatio() {
+        new LinkedBlockList<>(8, 0.75f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorThrowsOnInvertedCapacityBounds() {
+        new LinkedBlockList<>(64, 16, 0.25f);
+    }
+
+    private static void bruteForceTest(LinkedBlockList<Integer> blockList) {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        System.out.println("Seed = " + seed);
+
+        List<Integer> javaList = new ArrayList<>();
+
+        for (int operationNumber = 0;
+                 operationNumber < 20_000;
+                 operationNumber++) {
+            switch (random.nextInt(4)) {
+                // Remove:
+                case 0:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        javaList.remove(index);
+                        blockList.remove(index);
+                    }
+
+                    break;
+
+                // Add:
+                case 1:
+                    if (javaList.size() < 500) {
+                        Integer integer = random.nextInt(1000);
+                        int index = random.nextInt(javaList.size() + 1);
+                        javaList.add(index, integer);
+                        blockList.add(index, integer);
+                    }
+
+                    break;
+
+                // Get:
+                case 2:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        assertEquals(javaList.get(index),
+                                     blockList.get(index));
+                    }
+
+                    break;
+
+                // Add all:
+                case 3:
+                    if (javaList.size() < 500) {
+                        List<Integer> integers = new ArrayList<>();
+                        int length = random.nextInt(3) == 0 ? 
+                                     random.nextInt(100) : 
+                                     random.nextInt(5);
+
+                        for (int i = 0; i < length; i++) {
+                            integers.add(random.nextInt(1000));
+                        }
+
+                        int index = random.nextInt(javaList.size() + 1);
+                        javaList.addAll(index, integers);
+                        blockList.addAll(index, integers);
+                    }
+
+                    break;
+            }
+
+            assertEquals(javaList.size(), blockList.size());
+            assertTrue(blockList.hasCorrectState());
+        }
+
+        for (int i = 0; i < javaList.size(); i++) {
+            assertEquals(javaList.get(i), blockList.get(i));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.coderodde.util.experimental;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SquareFingerListTest {
+    
+    @Test
+    public void testSkewedAddition() {
+        SquareFingerList<Integer> list = new SquareFingerList<>();
+        
+        list.add(0, 0);
+        list.add(1, 1);
+        list.add(0, -1);
+        list.add(1, 10);
+        list.add(4, 100);
+        
+        // -1, 10, 0, 1, 100
+        assertEquals(-1, (int) list.get(0));
+        assertEquals(10, (int) list.get(1));
+        assertEquals(0,  (int) list.get(2));
+        assertEquals(1,  (int) list.get(3));
+        assertEquals(100, (int) list.get(4));
+        
+        list.remove(2);
+        
+        assertEquals(-1,  (int) list.get(0));
+        assertEquals(10,  (int) list.get(1));
+        assertEquals(1,   (int) list.get(2));
+        assertEquals(100, (int) list.get(3));
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test
+    public void testBulkConstructionAndAddAll() {
+        List<Integer> javaList = new ArrayList<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            javaList.add(i);
+        }
+        
+        SquareFingerList<Integer> list = new SquareFingerList<>(javaList);
+        assertTrue(list.hasCorrectState());
+        
+        SquareFingerList<Integer> evenList = new SquareFingerList<>(true);
+        evenList.add(0, -1);
+        evenList.addAll(javaList);
+        assertTrue(evenList.hasCorrectState());
+        
+        list.addAll(javaList);
+        assertTrue(list.hasCorrectState());
+        assertEquals(2000, list.size());
+        assertEquals(1001, evenList.size());
+        
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) list.get(i));
+            assertEquals(i, (int) list.get(i + 1000));
+            assertEquals(i, (int) evenList.get(i + 1));
+        }
+        
+        assertEquals(-1, (int) evenList.get(0));
+        assertTrue(list.hasCorrectState());
+        assertTrue(evenList.hasCorrectState());
+    }
+    
+    @Test
+    public void testParallelTraversal() {
+        List<Integer> javaList = new ArrayList<>();
+        
+        for (int i = 0; i < 10_000; i++) {
+            javaList.add(i);
+        }
+        
+        SquareFingerList<Integer> list = new SquareFingerList<>(javaList);
+        
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 7, -i);
+            javaList.add(i * 7, -i);
+        }
+        
+        AtomicLong sum = new AtomicLong();
+        list.parallelForEach(sum::addAndGet);
+        long expectedSum = 0L;
+        
+        for (Integer integer : javaList) {
+            expectedSum += integer;
+        }
+        
+        assertEquals(expectedSum, sum.get());
+        assertEquals(expectedSum, (long) list.reduce(0, Integer::sum));
+        assertEquals(javaList,
+                     StreamSupport.stream(list.spliterator(), true)
+                                  .collect(Collectors.toList()));
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test
+    public void bruteForceTest() {
+        bruteForceTest(new SquareFingerList<>());
+    }
+    
+    @Test
+    public void bruteForceTestEvenlySpacedFingers() {
+        bruteForceTest(new SquareFingerList<>(true));
+    }
+    
+    @Test
+    public void bruteForceTestDensityFunctions() {
+        FingerDensityFunction[] densityFunctions = {
+            FingerDensityFunction.constant(1),
+            FingerDensityFunction.logarithmic(1.0),
+            FingerDensityFunction.power(0.66),
+        };
+        
+        for (FingerDensityFunction densityFunction : densityFunctions) {
+            bruteForceTest(new SquareFingerList<>(false, densityFunction));
+            bruteForceTest(new SquareFingerList<>(true, densityFunction));
+        }
+    }
+    
+    @Test
+    public void bruteForceTestDegenerateDensityFunctions() {
+        FingerDensityFunction[] densityFunctions = {
+            size -> -5,
+            size -> Integer.MAX_VALUE,
+        };
+        
+        for (FingerDensityFunction densityFunction : densityFunctions) {
+            bruteForceTest(new SquareFingerList<>(false, densityFunction));
+            bruteForceTest(new SquareFingerList<>(true, densityFunction));
+        }
+    }
+    
+    private static void bruteForceTest(SquareFingerList<Integer> fingerList) {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println("Seed = " + seed);
+        
+        List<Integer> javaList = new LinkedList<>();
+        
+        for (int operationNumber = 0;
+                 operationNumber < 10_000;
+                 operationNumber++) {
+            switch (random.nextInt(3)) {
+                // Remove:
+                case 0:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        javaList.remove(index);
+                        fingerList.remove(index);
+                    }
+                    
+                    break;
+                
+                // Add:
+                case 1:
+                    if (javaList.size() < 200) {
+                        Integer integer = random.nextInt(1000);
+                        int index = random.nextInt(javaList.size() + 1);
+                        javaList.add(index, integer);
+                        fingerList.add(index, integer);
+                    }
+                    
+                    break;
+                
+                // Get:
+                case 2:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        assertEquals(javaList.get(index),
+                                     fingerList.get(index));
+                    }
+                    
+                    break;
+            }
+            
+            assertTrue(fingerList.hasCorrectState());
+            assertEquals(javaList.size(), fingerList.size());
+        }
+        
+        for (int i = 0; i < javaList.size(); i++) {
+            assertEquals(javaList.get(i), fingerList.get(i));
+        }
+    }
+}
@@ -0,0 +1,844 @@
+package com.github.coderodde.util.experimental;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class SquareRootFingerListTest {
+    
+    @Test
+    public void testDequeOperations() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        assertNull(list.peekFirst());
+        assertNull(list.pollLast());
+        
+        list.addFirst(2);
+        list.addLast(3);
+        list.push(1);
+        list.offerLast(4);
+        
+        assertEquals(Integer.valueOf(1), list.peekFirst());
+        assertEquals(Integer.valueOf(4), list.peekLast());
+        assertEquals(Integer.valueOf(1), list.pop());
+        assertEquals(Integer.valueOf(4), list.removeLast());
+        assertEquals(Integer.valueOf(2), list.element());
+        assertTrue(list.removeLastOccurrence(3));
+        assertEquals(1, list.size());
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFirstThrowsOnEmptyList() {
+        new SquareRootFingerList<Integer>().removeFirst();
+    }
+    
+    @Test
+    public void bruteForceDequeTest() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println("Seed = " + seed);
+        
+        Deque<Integer> javaDeque = new ArrayDeque<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int operationNumber = 0;
+                 operationNumber < 20_000;
+                 operationNumber++) {
+            Integer integer = random.nextInt(1000);
+            
+            switch (random.nextInt(6)) {
+                case 0:
+                    javaDeque.addFirst(integer);
+                    list.addFirst(integer);
+                    break;
+                
+                case 1:
+                    javaDeque.addLast(integer);
+                    list.addLast(integer);
+                    break;
+                
+                case 2:
+                    assertEquals(javaDeque.pollFirst(), list.pollFirst());
+                    break;
+                
+                case 3:
+                    assertEquals(javaDeque.pollLast(), list.pollLast());
+                    break;
+                
+                case 4:
+                    assertEquals(javaDeque.peekFirst(), list.peekFirst());
+                    break;
+                
+                case 5:
+                    assertEquals(javaDeque.peekLast(), list.peekLast());
+                    break;
+            }
+            
+            assertEquals(javaDeque.size(), list.size());
+            assertTrue(list.hasCorrectState());
+        }
+        
+        assertArrayEquals(javaDeque.toArray(), list.toArray());
+    }
+    
+    @Test
+    public void bruteForcePositionalTest() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println("Seed = " + seed);
+        
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int operationNumber = 0; 
+                 operationNumber < 20_000; 
+                 operationNumber++) {
+            Integer integer = random.nextInt(1000);
+            
+            switch (random.nextInt(4)) {
+                case 0:
+                    if (javaList.size() < 500) {
+                        int index = random.nextInt(javaList.size() + 1);
+                        javaList.add(index, integer);
+                        list.add(index, integer);
+                    }
+                    
+                    break;
+                
+                case 1:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        assertEquals(javaList.remove(index), 
+                                     list.remove(index));
+                    }
+                    
+                    break;
+                
+                case 2:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        assertEquals(javaList.set(index, integer), 
+                                     list.set(index, integer));
+                    }
+                    
+                    break;
+                
+                case 3:
+                    if (!javaList.isEmpty()) {
+                        int index = random.nextInt(javaList.size());
+                        assertEquals(javaList.get(index), list.get(index));
+                    }
+                    
+                    break;
+            }
+            
+            assertEquals(javaList.size(), list.size());
+            assertTrue(list.hasCorrectState());
+        }
+        
+        assertArrayEquals(javaList.toArray(), list.toArray());
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorIsFailFast() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        list.add(1);
+        list.add(2);
+        
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+        iterator.next();
+    }
+    
+    @Test
+    public void bruteForceListIteratorTest() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println("Seed = " + seed);
+        
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 300; i++) {
+            javaList.add(i);
+            list.add(i);
+        }
+        
+        for (int iteration = 0; iteration < 200; iteration++) {
+            int startIndex = random.nextInt(javaList.size() + 1);
+            ListIterator<Integer> javaIterator = 
+                    javaList.listIterator(startIndex);
+            
+            ListIterator<Integer> iterator = list.listIterator(startIndex);
+            boolean canModify = false;
+            
+            for (int operationNumber = 0; 
+                     operationNumber < 100; 
+                     operationNumber++) {
+                Integer integer = random.nextInt(1000);
+                
+                switch (random.nextInt(5)) {
+                    case 0:
+                        assertEquals(javaIterator.hasNext(), 
+                                     iterator.hasNext());
+                        
+                        if (javaIterator.hasNext()) {
+                            assertEquals(javaIterator.next(), 
+                                         iterator.next());
+                            canModify = true;
+                        }
+                        
+                        break;
+                        
+                    case 1:
+                        assertEquals(javaIterator.hasPrevious(), 
+                                     iterator.hasPrevious());
+                        
+                        if (javaIterator.hasPrevious()) {
+                            assertEquals(javaIterator.previous(), 
+                                         iterator.previous());
+                            canModify = true;
+                        }
+                        
+                        break;
+                        
+                    case 2:
+                        if (javaList.size() < 500) {
+                            javaIterator.add(integer);
+                            iterator.add(integer);
+                            canModify = false;
+                        }
+                        
+                        break;
+                        
+                    case 3:
+                        if (canModify) {
+                            javaIterator.remove();
+                            iterator.remove();
+                            canModify = false;
+                        }
+                        
+                        break;
+                        
+                    case 4:
+                        if (canModify) {
+                            javaIterator.set(integer);
+                            iterator.set(integer);
+                        }
+                        
+                        break;
+                }
+                
+                assertEquals(javaIterator.nextIndex(), iterator.nextIndex());
+                assertEquals(javaList.size(), list.size());
+                assertTrue(list.hasCorrectState());
+            }
+            
+            if (!javaList.isEmpty()) {
+                int index = random.nextInt(javaList.size());
+                assertEquals(javaList.get(index), list.get(index));
+            }
+        }
+        
+        assertArrayEquals(javaList.toArray(), list.toArray());
+        
+        list.clear();
+        assertFalse(list.iterator().hasNext());
+    }
+    
+    @Test
+    public void testSubListClearAndSort() {
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            javaList.add(i);
+            list.add(i);
+        }
+        
+        javaList.subList(100, 900).subList(50, 150).clear();
+        list.subList(100, 900).subList(50, 150).clear();
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+        
+        javaList.subList(0, 300).sort(Collections.reverseOrder());
+        list.subList(0, 300).sort(Collections.reverseOrder());
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+        
+        list.subList(800, 900).clear();
+        javaList.subList(800, 900).clear();
+        list.subList(0, 0).clear();
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListIsInvalidatedByParentModification() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        list.add(1);
+        list.add(2);
+        
+        List<Integer> subList = list.subList(0, 1);
+        list.add(3);
+        subList.get(0);
+    }
+    
+    @Test
+    public void testSubListIteratorsAreFailFast() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        
+        List<Integer> subList = list.subList(2, 8);
+        Iterator<Integer> iterator1 = subList.iterator();
+        Iterator<Integer> iterator2 = subList.iterator();
+        iterator1.next();
+        iterator1.remove();
+        
+        // The iterator that made the modification stays valid:
+        assertEquals(3, (int) iterator1.next());
+        
+        try {
+            iterator2.next();
+            fail("The second iterator did not detect the removal.");
+        } catch (ConcurrentModificationException ex) {
+            
+        }
+        
+        Iterator<Integer> iterator3 = subList.iterator();
+        subList.add(100);
+        
+        try {
+            iterator3.next();
+            fail("The iterator did not detect the addition.");
+        } catch (ConcurrentModificationException ex) {
+            
+        }
+        
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test
+    public void testFingerGapsShrinkWithList() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 1_000_000; i++) {
+            list.add(i);
+        }
+        
+        list.subList(10_000, 990_000).clear();
+        
+        // hasCorrectState() checks the gaps against the finger stride of the
+        // current size:
+        assertEquals(20_000, list.size());
+        assertTrue(list.hasCorrectState());
+        
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, (int) list.get(i));
+            assertEquals(990_000 + i, (int) list.get(10_000 + i));
+        }
+    }
+    
+    @Test
+    public void testFingerGapsShrinkWhenDequeDrains() {
+        SquareRootFingerList<Integer> deque = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 1_000_000; i++) {
+            deque.addLast(i);
+        }
+        
+        while (deque.size() > 40_000) {
+            deque.pollFirst();
+            
+            if (deque.size() % 240_000 == 0) {
+                assertTrue(deque.hasCorrectState());
+            }
+        }
+        
+        assertTrue(deque.hasCorrectState());
+        
+        while (deque.size() > 1_000) {
+            deque.pollLast();
+        }
+        
+        assertTrue(deque.hasCorrectState());
+        assertEquals(960_000, (int) deque.getFirst());
+        assertEquals(960_999, (int) deque.getLast());
+        assertEquals(960_500, (int) deque.get(500));
+    }
+    
+    @Test
+    public void bruteForceSubListTest() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println("Seed = " + seed);
+        
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 400; i++) {
+            javaList.add(i);
+            list.add(i);
+        }
+        
+        for (int iteration = 0; iteration < 100; iteration++) {
+            int fromIndex = random.nextInt(javaList.size() + 1);
+            int toIndex = fromIndex + 
+                          random.nextInt(javaList.size() - fromIndex + 1);
+            
+            List<Integer> javaSubList = javaList.subList(fromIndex, toIndex);
+            List<Integer> subList = list.subList(fromIndex, toIndex);
+            
+            if (random.nextBoolean()) {
+                // Work on a nested view:
+                fromIndex = random.nextInt(javaSubList.size() + 1);
+                toIndex = fromIndex + 
+                          random.nextInt(javaSubList.size() - fromIndex + 1);
+                
+                javaSubList = javaSubList.subList(fromIndex, toIndex);
+                subList = subList.subList(fromIndex, toIndex);
+            }
+            
+            for (int operationNumber = 0; 
+                     operationNumber < 50; 
+                     operationNumber++) {
+                Integer integer = random.nextInt(1000);
+                
+                switch (random.nextInt(5)) {
+                    case 0:
+                        if (javaList.size() < 600) {
+                            int index = 
+                                    random.nextInt(javaSubList.size() + 1);
+                            
+                            javaSubList.add(index, integer);
+                            subList.add(index, integer);
+                        }
+                        
+                        break;
+                        
+                    case 1:
+                        if (!javaSubList.isEmpty()) {
+                            int index = random.nextInt(javaSubList.size());
+                            assertEquals(javaSubList.remove(index), 
+                                         subList.remove(index));
+                        }
+                        
+                        break;
+                        
+                    case 2:
+                        if (!javaSubList.isEmpty()) {
+                            int index = random.nextInt(javaSubList.size());
+                            assertEquals(javaSubList.set(index, integer), 
+                                         subList.set(index, integer));
+                        }
+                        
+                        break;
+                        
+                    case 3:
+                        if (!javaSubList.isEmpty()) {
+                            int index = random.nextInt(javaSubList.size());
+                            assertEquals(javaSubList.get(index), 
+                                         subList.get(index));
+                        }
+                        
+                        break;
+                        
+                    case 4:
+                        ListIterator<Integer> javaIterator = 
+                                javaSubList.listIterator();
+                        
+                        ListIterator<Integer> iterator = 
+                                subList.listIterator();
+                        
+                        while (javaIterator.hasNext()) {
+                            assertEquals(javaIterator.next(), 
+                                         iterator.next());
+                            
+                            if (random.nextInt(4) == 0) {
+                                javaIterator.remove();
+                                iterator.remove();
+                            } else if (random.nextInt(4) == 0) {
+                                javaIterator.add(integer);
+                                iterator.add(integer);
+                            }
+                        }
+                        
+                        assertFalse(iterator.hasNext());
+                        break;
+                }
+                
+                assertEquals(javaSubList.size(), subList.size());
+                assertEquals(javaList.size(), list.size());
+                assertTrue(list.hasCorrectState());
+            }
+            
+            assertEquals(javaSubList, subList);
+        }
+        
+        assertEquals(javaList, list);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            list.add(i / 2, i);
+        }
+        
+        ByteArrayOutputStream byteArrayOutputStream = 
+                new ByteArrayOutputStream();
+        
+        try (ObjectOutputStream objectOutputStream = 
+                new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(list);
+            objectOutputStream.writeObject(new SquareRootFingerList<>());
+        }
+        
+        try (ObjectInputStream objectInputStream = 
+                new ObjectInputStream(
+                        new ByteArrayInputStream(
+                                byteArrayOutputStream.toByteArray()))) {
+            SquareRootFingerList<Integer> readList = 
+                    (SquareRootFingerList<Integer>) 
+                    objectInputStream.readObject();
+            
+            SquareRootFingerList<Integer> readEmptyList = 
+                    (SquareRootFingerList<Integer>) 
+                    objectInputStream.readObject();
+            
+            assertTrue(readList.hasCorrectState());
+            assertTrue(readEmptyList.hasCorrectState());
+            assertEquals(list, readList);
+            assertTrue(readEmptyList.isEmpty());
+            
+            readList.add(500, -1);
+            readList.removeFirst();
+            readEmptyList.add(1);
+            assertTrue(readList.hasCorrectState());
+            assertTrue(readEmptyList.hasCorrectState());
+        }
+    }
+    
+    @Test
+    public void testClone() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            list.add(i / 2, i);
+        }
+        
+        List<Integer> javaList = new ArrayList<>(list);
+        SquareRootFingerList<Integer> clone = list.clone();
+        
+        assertTrue(clone.hasCorrectState());
+        assertEquals(list, clone);
+        
+        clone.remove(100);
+        clone.add(200, -1);
+        
+        assertEquals(javaList, list);
+        assertEquals(Integer.valueOf(-1), clone.get(200));
+        assertTrue(list.hasCorrectState());
+        assertTrue(clone.hasCorrectState());
+        assertTrue(new SquareRootFingerList<Integer>().clone().isEmpty());
+    }
+    
+    @Test
+    public void testRemoveAllAndRetainAll() {
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        Random random = new Random(13L);
+        
+        for (int i = 0; i < 2000; i++) {
+            Integer integer = random.nextInt(100);
+            javaList.add(integer);
+            list.add(integer);
+        }
+        
+        List<Integer> smallCollection = Arrays.asList(1, 2, 3);
+        List<Integer> largeCollection = new ArrayList<>();
+        
+        for (int i = 10; i < 60; i++) {
+            largeCollection.add(i);
+        }
+        
+        assertEquals(javaList.removeAll(smallCollection), 
+                     list.removeAll(smallCollection));
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+        
+        assertEquals(javaList.retainAll(largeCollection), 
+                     list.retainAll(largeCollection));
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+        
+        assertFalse(list.retainAll(largeCollection));
+        assertFalse(list.removeAll(smallCollection));
+        
+        assertTrue(list.removeAll(largeCollection));
+        assertTrue(list.isEmpty());
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test
+    public void testSearch() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        Random random = new Random(17L);
+        
+        for (int i = 0; i < 20_000; i++) {
+            Integer integer = i % 1000 == 0 ? null : random.nextInt(5000);
+            list.add(random.nextInt(list.size() + 1), integer);
+        }
+        
+        List<Integer> javaList = new ArrayList<>(list);
+        
+        for (int i = -1; i < 5001; i += 10) {
+            Integer integer = i == -1 ? null : i;
+            int expectedIndex = javaList.indexOf(integer);
+            int expectedLastIndex = javaList.lastIndexOf(integer);
+            
+            assertEquals(expectedIndex, list.indexOf(integer));
+            assertEquals(expectedIndex, list.bidirectionalIndexOf(integer));
+            assertEquals(expectedIndex, list.parallelIndexOf(integer));
+            assertEquals(expectedLastIndex, list.lastIndexOf(integer));
+            assertEquals(expectedLastIndex, 
+                         list.bidirectionalLastIndexOf(integer));
+            assertEquals(expectedLastIndex, 
+                         list.parallelLastIndexOf(integer));
+            assertEquals(javaList.contains(integer), list.contains(integer));
+        }
+        
+        for (int i = 0; i < 1000; i++) {
+            Integer integer = random.nextInt(5000);
+            
+            if (random.nextBoolean()) {
+                assertEquals(javaList.remove(integer), list.remove(integer));
+            } else {
+                int index = javaList.lastIndexOf(integer);
+                
+                if (index != -1) {
+                    javaList.remove(index);
+                }
+                
+                assertEquals(index != -1, list.removeLastOccurrence(integer));
+            }
+        }
+        
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test
+    public void testBulkRemoveIfReplaceAllAndForEach() {
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            javaList.add(i);
+            list.add(i);
+        }
+        
+        assertTrue(javaList.removeIf(i -> i % 3 != 0));
+        assertTrue(list.removeIf(i -> i % 3 != 0));
+        assertFalse(list.removeIf(i -> i < 0));
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+        
+        javaList.replaceAll(i -> -i);
+        list.replaceAll(i -> -i);
+        assertEquals(javaList, list);
+        
+        List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+        assertEquals(javaList, visited);
+        
+        list.get(100);
+        list.removeIf(i -> true);
+        assertTrue(list.isEmpty());
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void testForEachIsFailFast() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        list.add(1);
+        list.add(2);
+        list.forEach(list::add);
+    }
+    
+    @Test
+    public void bruteForceAddAllTest() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println("Seed = " + seed);
+        
+        List<Integer> javaList = new ArrayList<>();
+        
+        for (int i = 0; i < 100; i++) {
+            javaList.add(i);
+        }
+        
+        SquareRootFingerList<Integer> list = 
+                new SquareRootFingerList<>(javaList);
+        
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+        
+        for (int iteration = 0; iteration < 200; iteration++) {
+            List<Integer> collection = new ArrayList<>();
+            int collectionSize = random.nextInt(iteration % 10 == 0 ? 300 : 30);
+            
+            for (int i = 0; i < collectionSize; i++) {
+                collection.add(random.nextInt(1000));
+            }
+            
+            int index = random.nextInt(javaList.size() + 1);
+            
+            if (random.nextBoolean()) {
+                list.get(random.nextInt(list.size()));
+            }
+            
+            assertEquals(javaList.addAll(index, collection), 
+                         list.addAll(index, collection));
+            
+            assertEquals(javaList.size(), list.size());
+            assertTrue(list.hasCorrectState());
+            
+            if (javaList.size() > 2000) {
+                javaList.subList(0, 1000).clear();
+                list.subList(0, 1000).clear();
+                assertTrue(list.hasCorrectState());
+            }
+        }
+        
+        assertEquals(javaList, list);
+        
+        javaList.addAll(javaList);
+        list.addAll(list);
+        assertEquals(javaList, list);
+        assertTrue(list.hasCorrectState());
+    }
+    
+    @Test
+    public void testTypedToArrayAndCopyRange() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        
+        Integer[] smallArray = new Integer[10];
+        Integer[] largeArray = new Integer[102];
+        largeArray[100] = -1;
+        largeArray[101] = -1;
+        
+        Integer[] resultArray = list.toArray(smallArray);
+        assertTrue(resultArray != smallArray);
+        assertArrayEquals(list.toArray(), resultArray);
+        
+        assertTrue(list.toArray(largeArray) == largeArray);
+        assertNull(largeArray[100]);
+        assertEquals(Integer.valueOf(-1), largeArray[101]);
+        assertEquals(Integer.valueOf(99), largeArray[99]);
+        
+        Object[] buffer = new Object[20];
+        list.copyRange(40, 55, buffer, 5);
+        
+        for (int i = 0; i < 15; i++) {
+            assertEquals(40 + i, buffer[5 + i]);
+        }
+        
+        assertNull(buffer[4]);
+        list.copyRange(100, 100, buffer, 20);
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCopyRangeThrowsOnSmallDestination() {
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        
+        list.copyRange(0, 10, new Object[10], 1);
+    }
+    
+    @Test
+    public void testDescendingTraversal() {
+        List<Integer> javaList = new ArrayList<>();
+        SquareRootFingerList<Integer> list = new SquareRootFingerList<>();
+        
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i / 2, i);
+        }
+        
+        javaList.addAll(list);
+        Collections.reverse(javaList);
+        
+        assertEquals(javaList, 
+                     StreamSupport.stream(list.descendingSpliterator(), true)
+                                  .collect(Collectors.toList()));
+        
+        List<Integer> sequentialList = new ArrayList<>();
+        list.descendingSpliterator().forEachRemaining(sequentialList::add);
+        assertEquals(javaList, sequentialList);
+        
+        List<Integer> iteratedList = new ArrayList<>();
+        Iterator<Integer> iterator = list.descendingIterator();
+        
+        while (iterator.hasNext()) {
+            Integer integer = iterator.next();
+            iteratedList.add(integer);
+            
+            if (integer % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        
+        assertEquals(javaList, iteratedList);
+        assertEquals(5000, list.size());
+        assertTrue(list.hasCorrectState());
+        
+        for (Integer integer : list) {
+            assertTrue(integer % 2 == 1);
+        }
+        
+        assertFalse(new SquareRootFingerList<Integer>()
+                .descendingSpliterator()
+                .tryAdvance(integer -> {}));
+    }
+}